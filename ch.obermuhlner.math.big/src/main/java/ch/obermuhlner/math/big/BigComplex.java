@@ -545,9 +545,10 @@ public final class BigComplex {
 			return ZERO;
 		}
 
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(angle, mathContext);
 		return valueOf(
-				radius.multiply(BigDecimalMath.cos(angle, mathContext), mathContext),
-				radius.multiply(BigDecimalMath.sin(angle, mathContext), mathContext));
+				radius.multiply(sinCos[1], mathContext),
+				radius.multiply(sinCos[0], mathContext));
 	}
 
 	public static BigComplex valueOfPolar(double radius, double angle, MathContext mathContext) {
@@ -82,10 +82,12 @@ public class BigComplexMath {
 	 * <p>This involves calculating a series of constants that depend on the desired precision.
 	 * Since this constant calculation is quite expensive (especially for higher precisions),
 	 * the constants for a specific precision will be cached
-	 * and subsequent calls to this method with the same precision will be much faster.</p>
+	 * and subsequent calls to this method with the same precision will be much faster.
+	 * Only the constants for a few recently used precisions are kept in the cache.</p>
 	 *
 	 * <p>It is therefore recommended to do one call to this method with the standard precision of your application during the startup phase
-	 * and to avoid calling it with many different precisions.</p>
+	 * and to avoid calling it with many different precisions.
+	 * The constants can also be stored and loaded with {@link BigDecimalMath#exportFactorialConstants(MathContext)}.</p>
 	 *
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Factorial#Extension_of_factorial_to_non-integer_values_of_argument">Wikipedia: Factorial - Extension of factorial to non-integer values of argument</a></p>
 	 *
@@ -104,7 +106,7 @@ public class BigComplexMath {
 		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
 		MathContext mc = new MathContext(mathContext.getPrecision() * 2, mathContext.getRoundingMode());
 
-		int a = mathContext.getPrecision() * 13 / 10;
+		int a = BigDecimalMath.spougeFactorialParameter(mathContext);
 		List<BigDecimal> constants = BigDecimalMath.getSpougeFactorialConstants(a);
 
 		BigDecimal bigA = BigDecimal.valueOf(a);
@@ -157,9 +159,10 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal expRe = BigDecimalMath.exp(x.re, mc);
+		BigDecimal[] sinCosIm = BigDecimalMath.sinCos(x.im, mc);
 		return BigComplex.valueOf(
-				expRe.multiply(BigDecimalMath.cos(x.im, mc), mc).round(mathContext),
-				expRe.multiply(BigDecimalMath.sin(x.im, mc), mc)).round(mathContext);
+				expRe.multiply(sinCosIm[1], mc).round(mathContext),
+				expRe.multiply(sinCosIm[0], mc)).round(mathContext);
 	}
 
 	/**
@@ -173,10 +176,12 @@ public class BigComplexMath {
 	 */
 	public static BigComplex sin(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		
+
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).round(mathContext));
+				sinCosRe[0].multiply(sinhCoshIm[1], mc).round(mathContext),
+				sinCosRe[1].multiply(sinhCoshIm[0], mc).round(mathContext));
 	}
 
 	/**
@@ -189,9 +194,11 @@ public class BigComplexMath {
 	public static BigComplex cos(BigComplex x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
+		BigDecimal[] sinCosRe = BigDecimalMath.sinCos(x.re, mc);
+		BigDecimal[] sinhCoshIm = BigDecimalMath.sinhCosh(x.im, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.cos(x.re, mc).multiply(BigDecimalMath.cosh(x.im, mc), mc).round(mathContext),
-				BigDecimalMath.sin(x.re, mc).multiply(BigDecimalMath.sinh(x.im, mc), mc).negate().round(mathContext));
+				sinCosRe[1].multiply(sinhCoshIm[1], mc).round(mathContext),
+				sinCosRe[0].multiply(sinhCoshIm[0], mc).negate().round(mathContext));
 	}
 	
 	// 
@@ -358,9 +365,10 @@ public class BigComplexMath {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		BigDecimal angleTimesN = x.angle(mc).multiply(y, mc);
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(angleTimesN, mc);
 		return BigComplex.valueOf(
-				BigDecimalMath.cos(angleTimesN, mc),
-				BigDecimalMath.sin(angleTimesN, mc)).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
+				sinCos[1],
+				sinCos[0]).multiply(BigDecimalMath.pow(x.abs(mc), y, mc), mc).round(mathContext);
 	}
 
 	/**
@@ -388,11 +396,45 @@ public class BigComplexMath {
 	 * @return the calculated n'th root of x with the precision specified in the <code>mathContext</code>
 	 */
 	public static BigComplex root(BigComplex x, BigDecimal n, MathContext mathContext) {
+		if (n.signum() > 0 && BigDecimalMath.isIntValue(n)) {
+			return root(x, n.intValueExact(), mathContext);
+		}
+
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
 		return pow(x, BigDecimal.ONE.divide(n, mc), mc).round(mathContext);
 	}
 
+	/**
+	 * Calculates the principal <code>int</code> n'th root of {@link BigComplex} x (<sup>n</sup>√x).
+	 *
+	 * <p>The absolute value of the result is calculated with {@link BigDecimalMath#root(BigDecimal, int, MathContext)}
+	 * and the angle is the angle of x divided by n.</p>
+	 *
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Nth_root">Wikipedia: Nth root</a></p>
+	 * @param x the {@link BigComplex} value to calculate the n'th root
+	 * @param n the <code>int</code> defining the root
+	 * @param mathContext the {@link MathContext} used for the result
+	 *
+	 * @return the calculated n'th root of x with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if n &lt;= 0
+	 */
+	public static BigComplex root(BigComplex x, int n, MathContext mathContext) {
+		if (n <= 0) {
+			throw new ArithmeticException("Illegal root(x, n) for n <= 0: n = " + n);
+		}
+		if (x.re.signum() == 0 && x.im.signum() == 0) {
+			return BigComplex.ZERO;
+		}
+
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+
+		BigDecimal[] sinCos = BigDecimalMath.sinCos(x.angle(mc).divide(BigDecimal.valueOf(n), mc), mc);
+		return BigComplex.valueOf(
+				sinCos[1],
+				sinCos[0]).multiply(BigDecimalMath.root(x.abs(mc), n, mc), mc).round(mathContext);
+	}
+
 	/**
 	 * Calculates the {@link BigComplex} n'th root of {@link BigComplex} x (<sup>n</sup>√x).
 	 *
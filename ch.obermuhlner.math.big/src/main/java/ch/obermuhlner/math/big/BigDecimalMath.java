@@ -5,16 +5,43 @@ import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.math.BigDecimal.valueOf;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import ch.obermuhlner.math.big.internal.AsinCalculator;
+import ch.obermuhlner.math.big.internal.AtanCalculator;
+import ch.obermuhlner.math.big.internal.AtanhBinarySplittingCalculator;
+import ch.obermuhlner.math.big.internal.BinarySplittingCalculator;
+import ch.obermuhlner.math.big.internal.ChudnovskyCalculator;
+import ch.obermuhlner.math.big.internal.ConstantCache;
+import ch.obermuhlner.math.big.internal.ConstantStore;
 import ch.obermuhlner.math.big.internal.CosCalculator;
-import ch.obermuhlner.math.big.internal.CoshCalculator;
+import ch.obermuhlner.math.big.internal.DecimalFormatter;
+import ch.obermuhlner.math.big.internal.ExpBinarySplittingCalculator;
 import ch.obermuhlner.math.big.internal.ExpCalculator;
+import ch.obermuhlner.math.big.internal.FactorialCalculator;
+import ch.obermuhlner.math.big.internal.NewtonDivision;
+import ch.obermuhlner.math.big.internal.PowersOfTen;
+import ch.obermuhlner.math.big.internal.ProductTreeExecutor;
 import ch.obermuhlner.math.big.internal.SinCalculator;
 import ch.obermuhlner.math.big.internal.SinhCalculator;
+import ch.obermuhlner.math.big.internal.SpougeConstantsCache;
 
 /**
  * Provides advanced functions operating on {@link BigDecimal}s.
@@ -23,6 +50,7 @@ public class BigDecimalMath {
 
 	private static final BigDecimal TWO = valueOf(2);
 	private static final BigDecimal THREE = valueOf(3);
+	private static final BigDecimal FOUR = valueOf(4);
 	private static final BigDecimal MINUS_ONE = valueOf(-1);
 	private static final BigDecimal ONE_HALF = valueOf(0.5);
 
@@ -30,25 +58,46 @@ public class BigDecimalMath {
 
 	private static final BigDecimal DOUBLE_MAX_VALUE = BigDecimal.valueOf(Double.MAX_VALUE);
 
-	private static volatile BigDecimal log2Cache;
-	private static final Object log2CacheLock = new Object();
+	private static final ConstantCache log2Cache = new ConstantCache("log2", BigDecimalMath::calculateLogTwo);
 
-	private static volatile BigDecimal log3Cache;
-	private static final Object log3CacheLock = new Object();
+	private static final ConstantCache log3Cache = new ConstantCache("log3", BigDecimalMath::calculateLogThree);
 
-	private static volatile BigDecimal log10Cache;
-	private static final Object log10CacheLock = new Object();
+	private static final ConstantCache log10Cache = new ConstantCache("log10", BigDecimalMath::calculateLogTen);
 
-	private static volatile BigDecimal piCache;
-	private static final Object piCacheLock = new Object();
+	private static final ConstantCache piCache = new ConstantCache("pi", BigDecimalMath::piChudnovski);
 
-	private static volatile BigDecimal eCache;
-	private static final Object eCacheLock = new Object();
+	private static final ConstantCache eCache = new ConstantCache("e", mathContext -> exp(ONE, mathContext));
 
-	private static final BigDecimal ROUGHLY_TWO_PI = new BigDecimal("3.141592653589793").multiply(TWO);
+	private static final ConstantCache halfPiCache = new ConstantCache("halfPi", mathContext -> pi(mathContext).multiply(ONE_HALF, mathContext));
+
+	private static final ConstantCache sqrtTwoCache = new ConstantCache("sqrt2", mathContext -> sqrtNewton(TWO, mathContext));
+
+	private static final ConstantCache halfLogTwoPiCache = new ConstantCache(BigDecimalMath::calculateHalfLogTwoPi);
+
+	private static final BigDecimal ROUGHLY_QUARTER_PI = new BigDecimal("0.785398163397448");
+
+	private static final BigDecimal ROUGHLY_LOG_TWO = new BigDecimal("0.693147180559945");
+	private static final BigDecimal ROUGHLY_HALF_LOG_TWO = new BigDecimal("0.346573590279973");
+
+	private static final double LOG10_OF_TWO = Math.log10(2);
 
 	private static final int EXPECTED_INITIAL_PRECISION = 15;
 
+	private static final int MAX_ROOT_SEED_DIGITS = 100_000;
+
+	private static final int SQRT_RECIPROCAL_PRECISION_THRESHOLD = 300;
+	private static final int SQRT_SEED_BITS = 128;
+	private static final int SQRT_GUARD_BITS = 32;
+
+	// BigInteger.sqrt() is only available since Java 9
+	private static final MethodHandle BIG_INTEGER_SQRT = findBigIntegerSqrt();
+
+	private static final int LOG_AGM_PRECISION_THRESHOLD = 150;
+
+	private static final int EXP_BINARY_SPLITTING_MAX_SCALE = 20;
+	private static final int EXP_BINARY_SPLITTING_MAX_BITS = 64;
+	private static final int EXP_BINARY_SPLITTING_MIN_RANGE = 10;
+
 	private static BigDecimal[] factorialCache = new BigDecimal[100];
 
 	static {
@@ -60,8 +109,16 @@ public class BigDecimalMath {
 		}
 	}
 
-	private static final Map<Integer, List<BigDecimal>> spougeFactorialConstantsCache = new HashMap<>();
-	private static final Object spougeFactorialConstantsCacheLock = new Object();
+	private static final int TO_BIG_DECIMAL_MIN_RECURSIVE_LENGTH = 600;
+	private static final int TO_BIG_DECIMAL_PARALLEL_THRESHOLD = 100_000;
+
+	private static final int MAX_SPOUGE_FACTORIAL_CONSTANTS_CACHE_SIZE = 8;
+	private static final long MAX_SPOUGE_FACTORIAL_CONSTANTS_CACHE_DIGITS = 100_000_000L;
+
+	private static final SpougeConstantsCache spougeFactorialConstantsCache = new SpougeConstantsCache(
+			BigDecimalMath::calculateSpougeFactorialConstants,
+			MAX_SPOUGE_FACTORIAL_CONSTANTS_CACHE_SIZE,
+			MAX_SPOUGE_FACTORIAL_CONSTANTS_CACHE_DIGITS);
 
 	private BigDecimalMath() {
 		// prevent instances
@@ -98,69 +155,69 @@ public class BigDecimalMath {
 	 * @see #toBigDecimal(String)
 	 */
 	public static BigDecimal toBigDecimal(String string, MathContext mathContext) {
-		int len = string.length();
-		if (len < 600) {
-			return new BigDecimal(string, mathContext);
-		}
+		return toBigDecimal((CharSequence) string, mathContext);
+	}
 
-		int splitLength = len / (len >= 10000 ? 8 : 5);
-		return toBigDecimal(string, mathContext, splitLength);
+	/**
+	 * Creates a {@link BigDecimal} from the specified {@link CharSequence} representation.
+	 *
+	 * <p>This method accepts the same representations as the String constructor {@link BigDecimal#BigDecimal(String, MathContext)}.
+	 * Large character sequences (for example a {@link java.nio.CharBuffer} mapped from a file) are parsed without copying them.</p>
+	 *
+	 * <p>The digits are converted recursively in halves that are joined with cached powers of ten,
+	 * which is subquadratic in the number of digits.</p>
+	 *
+	 * @param string the character sequence representation
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the created {@link BigDecimal}
+	 * @throws NumberFormatException if <code>string</code> is not a valid representation of a {@link BigDecimal}
+	 * @throws ArithmeticException if the result is inexact but the rounding mode is {@code UNNECESSARY}
+	 * @see #toBigDecimal(CharSequence, MathContext, ForkJoinPool)
+	 */
+	public static BigDecimal toBigDecimal(CharSequence string, MathContext mathContext) {
+		return toBigDecimal(string, mathContext, TO_BIG_DECIMAL_MIN_RECURSIVE_LENGTH, null);
+	}
+
+	/**
+	 * Creates a {@link BigDecimal} from the specified {@link CharSequence} representation,
+	 * converting large parts of the digits in parallel in the specified {@link ForkJoinPool}.
+	 *
+	 * <p>This method is intended for character sequences with hundreds of thousands of digits or more.</p>
+	 *
+	 * @param string the character sequence representation
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @param pool the {@link ForkJoinPool} used to convert the digits in parallel
+	 * @return the created {@link BigDecimal}
+	 * @throws NumberFormatException if <code>string</code> is not a valid representation of a {@link BigDecimal}
+	 * @throws ArithmeticException if the result is inexact but the rounding mode is {@code UNNECESSARY}
+	 * @see #toBigDecimal(CharSequence, MathContext)
+	 */
+	public static BigDecimal toBigDecimal(CharSequence string, MathContext mathContext, ForkJoinPool pool) {
+		Objects.requireNonNull(pool, "pool");
+		return toBigDecimal(string, mathContext, TO_BIG_DECIMAL_MIN_RECURSIVE_LENGTH, pool);
 	}
 
-	static BigDecimal toBigDecimal(String string, MathContext mathContext, int splitLength) {
+	static BigDecimal toBigDecimal(CharSequence string, MathContext mathContext, int minRecursiveLength, ForkJoinPool pool) {
 		int len = string.length();
 
-		if (len < splitLength) {
-			return new BigDecimal(string, mathContext);
+		if (len < minRecursiveLength) {
+			return new BigDecimal(string.toString(), mathContext);
 		}
 
-		char[] chars = string.toCharArray();
-
-		boolean numberHasSign = false;
 		boolean negative = false;
 		int numberIndex = 0;
 		int dotIndex = -1;
 		int expIndex = -1;
-		boolean expHasSign = false;
-		int scale = 0;
-
-		for (int i = 0; i < len; i++) {
-			char c = chars[i];
-			switch (c) {
-				case '+':
-					if (expIndex >= 0) {
-						if (expHasSign) {
-							throw new NumberFormatException("Multiple signs in exponent");
-						}
-						expHasSign = true;
-					} else {
-						if (numberHasSign) {
-							throw new NumberFormatException("Multiple signs in number");
-						}
-						numberHasSign = true;
-						numberIndex = i + 1;
-					}
-					break;
-				case '-':
-					if (expIndex >= 0) {
-						if (expHasSign) {
-							throw new NumberFormatException("Multiple signs in exponent");
-						}
-						expHasSign = true;
-					} else {
-						if (numberHasSign) {
-							throw new NumberFormatException("Multiple signs in number");
-						}
-						numberHasSign = true;
-						negative = true;
-						numberIndex = i + 1;
-					}
-					break;
+
+		if (len > 0 && (string.charAt(0) == '+' || string.charAt(0) == '-')) {
+			negative = string.charAt(0) == '-';
+			numberIndex = 1;
+		}
+
+		for (int i = numberIndex; i < len && expIndex < 0; i++) {
+			switch (string.charAt(i)) {
 				case 'e':
 				case 'E':
-					if (expIndex >= 0) {
-						throw new NumberFormatException("Multiple exponent markers");
-					}
 					expIndex = i;
 					break;
 				case '.':
@@ -170,42 +227,24 @@ public class BigDecimalMath {
 					dotIndex = i;
 					break;
 				default:
-					if (dotIndex >= 0 && expIndex == -1) {
-						scale++;
-					}
+					// digits are checked while converting
 			}
 		}
 
-		int numberEndIndex;
-		int exp = 0;
-		if (expIndex >= 0) {
-			numberEndIndex = expIndex;
-			String expString = new String(chars, expIndex + 1, len - expIndex - 1);
-			exp = Integer.parseInt(expString);
-			scale = adjustScale(scale, exp);
-		} else {
-			numberEndIndex = len;
+		int numberEndIndex = expIndex >= 0 ? expIndex : len;
+		int digitCount = numberEndIndex - numberIndex - (dotIndex >= 0 ? 1 : 0);
+		if (digitCount <= 0) {
+			throw new NumberFormatException("No digits");
 		}
 
-		BigDecimal result;
-
-		if (dotIndex >= 0) {
-			int leftLength = dotIndex - numberIndex;
-			BigDecimal bigDecimalLeft = toBigDecimalRecursive(chars, numberIndex, leftLength, exp, splitLength);
-			int rightLength = numberEndIndex - dotIndex - 1;
-			BigDecimal bigDecimalRight = toBigDecimalRecursive(chars, dotIndex + 1, rightLength, exp-rightLength, splitLength);
-			result = bigDecimalLeft.add(bigDecimalRight);
-		} else {
-			result = toBigDecimalRecursive(chars, numberIndex, numberEndIndex - numberIndex, exp, splitLength);
-		}
-
-		if (scale != 0) {
-			result = result.setScale(scale);
+		int scale = dotIndex >= 0 ? numberEndIndex - dotIndex - 1 : 0;
+		if (expIndex >= 0) {
+			long exp = Long.parseLong(string.subSequence(expIndex + 1, len).toString());
+			scale = adjustScale(scale, exp);
 		}
 
-		if (negative) {
-			result = result.negate();
-		}
+		BigInteger unscaledValue = toBigIntegerRecursive(string, numberIndex, digitCount, dotIndex, pool);
+		BigDecimal result = new BigDecimal(negative ? unscaledValue.negate() : unscaledValue, scale);
 
 		if (mathContext.getPrecision() != 0) {
 			result = result.round(mathContext);
@@ -221,17 +260,200 @@ public class BigDecimalMath {
 		return (int) adjustedScale;
 	}
 
-	private static BigDecimal toBigDecimalRecursive(char[] chars, int offset, int length, int scale, int splitLength) {
-		if (length > splitLength) {
-			int mid = length / 2;
-			BigDecimal bigDecimalLeft = toBigDecimalRecursive(chars, offset, mid, scale + length - mid, splitLength);
-			BigDecimal bigDecimalRight = toBigDecimalRecursive(chars, offset + mid, length - mid, scale, splitLength);
-			return bigDecimalLeft.add(bigDecimalRight);
+	/**
+	 * Converts the digits in the range of the character sequence to a {@link BigInteger}, skipping the decimal point at dotIndex.
+	 */
+	private static BigInteger toBigIntegerRecursive(CharSequence string, int offset, int length, int dotIndex, ForkJoinPool pool) {
+		if (length <= PowersOfTen.CHUNK_DIGITS) {
+			return BigInteger.valueOf(parseDigits(string, offset, length, dotIndex));
 		}
-		if (length == 0) {
-			return BigDecimal.ZERO;
+
+		// value = left * 10^rightLength + right
+		int k = PowersOfTen.blockIndex(length);
+		int rightLength = (int) PowersOfTen.blockDigits(k);
+		int leftLength = length - rightLength;
+		Supplier<BigInteger> left = () -> toBigIntegerRecursive(string, offset, leftLength, dotIndex, pool);
+		Supplier<BigInteger> right = () -> toBigIntegerRecursive(string, offset + leftLength, rightLength, dotIndex, pool);
+		BinaryOperator<BigInteger> combine = (leftValue, rightValue) -> leftValue.multiply(PowersOfTen.blockPower(k)).add(rightValue);
+
+		if (pool == null) {
+			return ProductTreeExecutor.evaluate(length, left, right, combine);
+		}
+		return ProductTreeExecutor.evaluate(pool, TO_BIG_DECIMAL_PARALLEL_THRESHOLD, length, left, right, combine);
+	}
+
+	private static long parseDigits(CharSequence string, int offset, int length, int dotIndex) {
+		long result = 0;
+		for (int i = offset; i < offset + length; i++) {
+			char c = string.charAt(dotIndex >= 0 && i >= dotIndex ? i + 1 : i);
+			int digit = Character.digit(c, 10);
+			if (digit < 0) {
+				throw new NumberFormatException("Illegal character: " + c);
+			}
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	/**
+	 * Writes the {@link BigDecimal#toString()} representation of the specified {@link BigDecimal} to an {@link Appendable}.
+	 *
+	 * <p>The digits are calculated recursively by dividing the unscaled value with cached powers of ten
+	 * and written in small chunks, so that no string of the full length is created.
+	 * This is intended for values with hundreds of thousands of digits or more.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see BigDecimal#toString()
+	 * @see #writePlain(BigDecimal, Appendable)
+	 */
+	public static void write(BigDecimal value, Appendable appendable) throws IOException {
+		DecimalFormatter.write(value, false, appendable, null);
+	}
+
+	/**
+	 * Writes the {@link BigDecimal#toString()} representation of the specified {@link BigDecimal} to an {@link Appendable},
+	 * calculating the digits of large parts in parallel in the specified {@link ForkJoinPool}.
+	 *
+	 * <p>Parts of up to several million digits are converted in parallel into a temporary character array before they are written,
+	 * so the additional memory stays bounded independent of the size of the value.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @param pool the {@link ForkJoinPool} used to calculate the digits in parallel
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see #write(BigDecimal, Appendable)
+	 */
+	public static void write(BigDecimal value, Appendable appendable, ForkJoinPool pool) throws IOException {
+		Objects.requireNonNull(pool, "pool");
+		DecimalFormatter.write(value, false, appendable, pool);
+	}
+
+	/**
+	 * Writes the {@link BigDecimal#toString()} representation of the specified {@link BigDecimal} as ASCII characters
+	 * to a {@link WritableByteChannel}.
+	 *
+	 * <p>The characters are written in blocks of a fixed size, the channel is not closed.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param channel the blocking {@link WritableByteChannel} to write to
+	 * @throws IOException if the {@link WritableByteChannel} throws an {@link IOException}
+	 * @see #write(BigDecimal, Appendable)
+	 */
+	public static void write(BigDecimal value, WritableByteChannel channel) throws IOException {
+		DecimalFormatter.write(value, false, channel, null);
+	}
+
+	/**
+	 * Writes the {@link BigDecimal#toString()} representation of the specified {@link BigDecimal} as ASCII characters
+	 * to a {@link WritableByteChannel}, calculating the digits of large parts in parallel in the specified {@link ForkJoinPool}.
+	 *
+	 * <p>The characters are written in blocks of a fixed size, the channel is not closed.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param channel the blocking {@link WritableByteChannel} to write to
+	 * @param pool the {@link ForkJoinPool} used to calculate the digits in parallel
+	 * @throws IOException if the {@link WritableByteChannel} throws an {@link IOException}
+	 * @see #write(BigDecimal, Appendable, ForkJoinPool)
+	 */
+	public static void write(BigDecimal value, WritableByteChannel channel, ForkJoinPool pool) throws IOException {
+		Objects.requireNonNull(pool, "pool");
+		DecimalFormatter.write(value, false, channel, pool);
+	}
+
+	/**
+	 * Calculates a constant to the specified precision and writes its {@link BigDecimal#toString()} representation
+	 * as ASCII characters to a {@link WritableByteChannel}.
+	 *
+	 * <p>The calculated value is written directly in blocks of a fixed size without creating its string representation,
+	 * which would need several times the memory of the value itself.</p>
+	 *
+	 * <p>Example: <code>BigDecimalMath.writeConstant(BigDecimalMath::pi, new MathContext(10_000_000), channel)</code></p>
+	 *
+	 * @param constant the function calculating the constant, for example {@link #pi(MathContext)} or <code>mc -&gt; log(BigDecimal.valueOf(2), mc)</code>
+	 * @param mathContext the {@link MathContext} used to calculate the constant
+	 * @param channel the blocking {@link WritableByteChannel} to write to
+	 * @throws IOException if the {@link WritableByteChannel} throws an {@link IOException}
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #write(BigDecimal, WritableByteChannel)
+	 */
+	public static void writeConstant(Function<MathContext, BigDecimal> constant, MathContext mathContext, WritableByteChannel channel) throws IOException {
+		checkMathContext(mathContext);
+		DecimalFormatter.write(constant.apply(mathContext), false, channel, null);
+	}
+
+	/**
+	 * Calculates a constant to the specified precision and writes its {@link BigDecimal#toString()} representation
+	 * as ASCII characters to a {@link WritableByteChannel}, converting the digits of large parts in parallel in the specified {@link ForkJoinPool}.
+	 *
+	 * @param constant the function calculating the constant, for example {@link #pi(MathContext)} or <code>mc -&gt; log(BigDecimal.valueOf(2), mc)</code>
+	 * @param mathContext the {@link MathContext} used to calculate the constant
+	 * @param channel the blocking {@link WritableByteChannel} to write to
+	 * @param pool the {@link ForkJoinPool} used to convert the digits in parallel
+	 * @throws IOException if the {@link WritableByteChannel} throws an {@link IOException}
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #writeConstant(Function, MathContext, WritableByteChannel)
+	 */
+	public static void writeConstant(Function<MathContext, BigDecimal> constant, MathContext mathContext, WritableByteChannel channel, ForkJoinPool pool) throws IOException {
+		Objects.requireNonNull(pool, "pool");
+		checkMathContext(mathContext);
+		DecimalFormatter.write(constant.apply(mathContext), false, channel, pool);
+	}
+
+	/**
+	 * Calculates a constant to the specified precision and writes its {@link BigDecimal#toString()} representation
+	 * as ASCII characters into a memory-mapped file.
+	 *
+	 * <p>The file is created or truncated, its size is the exact length of the representation.</p>
+	 *
+	 * @param constant the function calculating the constant, for example {@link #pi(MathContext)} or <code>mc -&gt; log(BigDecimal.valueOf(2), mc)</code>
+	 * @param mathContext the {@link MathContext} used to calculate the constant
+	 * @param path the {@link Path} of the file to write
+	 * @throws IOException if the file cannot be written
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #writeConstant(Function, MathContext, WritableByteChannel)
+	 */
+	public static void writeConstant(Function<MathContext, BigDecimal> constant, MathContext mathContext, Path path) throws IOException {
+		checkMathContext(mathContext);
+		writeMapped(constant.apply(mathContext), path, null);
+	}
+
+	/**
+	 * Calculates a constant to the specified precision and writes its {@link BigDecimal#toString()} representation
+	 * as ASCII characters into a memory-mapped file, converting the digits of large parts in parallel in the specified {@link ForkJoinPool}.
+	 *
+	 * @param constant the function calculating the constant, for example {@link #pi(MathContext)} or <code>mc -&gt; log(BigDecimal.valueOf(2), mc)</code>
+	 * @param mathContext the {@link MathContext} used to calculate the constant
+	 * @param path the {@link Path} of the file to write
+	 * @param pool the {@link ForkJoinPool} used to convert the digits in parallel
+	 * @throws IOException if the file cannot be written
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #writeConstant(Function, MathContext, Path)
+	 */
+	public static void writeConstant(Function<MathContext, BigDecimal> constant, MathContext mathContext, Path path, ForkJoinPool pool) throws IOException {
+		Objects.requireNonNull(pool, "pool");
+		checkMathContext(mathContext);
+		writeMapped(constant.apply(mathContext), path, pool);
+	}
+
+	private static void writeMapped(BigDecimal value, Path path, ForkJoinPool pool) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			DecimalFormatter.writeMapped(value, false, channel, pool);
 		}
-		return new BigDecimal(chars, offset, length).movePointRight(scale);
+	}
+
+	/**
+	 * Writes the {@link BigDecimal#toPlainString()} representation of the specified {@link BigDecimal} to an {@link Appendable}.
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see BigDecimal#toPlainString()
+	 * @see #write(BigDecimal, Appendable)
+	 */
+	public static void writePlain(BigDecimal value, Appendable appendable) throws IOException {
+		DecimalFormatter.write(value, true, appendable, null);
 	}
 
 	/**
@@ -454,6 +676,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	/**
 	 * Calculates the reciprocal of the specified {@link BigDecimal}.
 	 *
+	 * <p>The result is the same as <code>BigDecimal.ONE.divide(x, mathContext)</code>.
+	 * At high precision it is calculated with Newton iterations that only need multiplications,
+	 * and the reciprocals of recently used values are cached.</p>
+	 *
 	 * @param x the {@link BigDecimal}
 	 * @param mathContext the {@link MathContext} used for the result
 	 * @return the reciprocal {@link BigDecimal}
@@ -464,7 +690,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 *         non-terminating decimal expansion.
 	 */
 	public static BigDecimal reciprocal(BigDecimal x, MathContext mathContext) {
-		return BigDecimal.ONE.divide(x, mathContext);
+		return NewtonDivision.reciprocal(x, mathContext);
 	}
 
 	/**
@@ -472,6 +698,9 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 *
 	 * <p>factorial = 1 * 2 * 3 * ... n</p>
 	 *
+	 * <p>Large factorials are calculated with the prime swing algorithm,
+	 * recently calculated large factorials are cached.</p>
+	 *
 	 * @param n the {@link BigDecimal}
 	 * @return the factorial {@link BigDecimal}
 	 * @throws ArithmeticException if x &lt; 0
@@ -484,49 +713,109 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return factorialCache[n];
 		}
 
-		BigDecimal result = factorialCache[factorialCache.length - 1];
-		return result.multiply(factorialRecursion(factorialCache.length, n));
+		return new BigDecimal(FactorialCalculator.factorial(n));
 	}
 
-    private static BigDecimal factorialLoop(int n1, final int n2) {
-		final long limit = Long.MAX_VALUE / n2;
-        long accu = 1;
-        BigDecimal result = BigDecimal.ONE;
-        while (n1 <= n2) {
-            if (accu <= limit) {
-                accu *= n1;
-            } else {
-                result = result.multiply(BigDecimal.valueOf(accu));
-                accu = n1;
-            }
-            n1++;
-        }
-        return result.multiply(BigDecimal.valueOf(accu));
-    }
+	/**
+	 * Enables the parallel calculation of large product trees in the common {@link ForkJoinPool}.
+	 *
+	 * @see #enableParallelProductTrees(ForkJoinPool, int)
+	 */
+	public static void enableParallelProductTrees() {
+		enableParallelProductTrees(ForkJoinPool.commonPool(), ProductTreeExecutor.DEFAULT_PARALLEL_THRESHOLD);
+	}
 
-    private static BigDecimal factorialRecursion(final int n1, final int n2) {
-		int threshold = n1 > 200 ? 80 : 150;
-        if (n2 - n1 < threshold) {
-            return factorialLoop(n1, n2);
-        }
-        final int mid = (n1 + n2) >> 1;
-        return factorialRecursion(mid + 1, n2).multiply(factorialRecursion(n1, mid));
-    }
+	/**
+	 * Enables the parallel calculation of large product trees in the specified {@link ForkJoinPool}.
+	 *
+	 * <p>Product trees are used by {@link #factorial(int)} and by the binary splitting series
+	 * of {@link #pi(MathContext)}, the logarithm constants and {@link #exp(BigDecimal, MathContext)} of short arguments.
+	 * Subtrees with fewer leaves than the specified threshold are calculated sequentially.</p>
+	 *
+	 * <p>The parallel calculation is disabled by default.</p>
+	 *
+	 * @param pool the {@link ForkJoinPool} used to calculate the subtrees in parallel
+	 * @param threshold the minimum number of leaves of a subtree to be split into parallel tasks
+	 * @throws IllegalArgumentException if threshold &lt; 2
+	 * @see #disableParallelProductTrees()
+	 */
+	public static void enableParallelProductTrees(ForkJoinPool pool, int threshold) {
+		Objects.requireNonNull(pool, "pool");
+		if (threshold < 2) {
+			throw new IllegalArgumentException("Illegal threshold < 2: " + threshold);
+		}
+		ProductTreeExecutor.enableParallel(pool, threshold);
+	}
+
+	/**
+	 * Disables the parallel calculation of large product trees.
+	 *
+	 * @see #enableParallelProductTrees(ForkJoinPool, int)
+	 */
+	public static void disableParallelProductTrees() {
+		ProductTreeExecutor.disableParallel();
+	}
+
+	/**
+	 * Enables storing the calculated constants in files of the specified directory, so that they can be reused by later runs.
+	 *
+	 * <p>The stored constants are {@link #pi(MathContext)}, pi/2, {@link #e(MathContext)}, the square root of 2,
+	 * the logarithms of 2, 3 and 10, and the constants of {@link #factorial(BigDecimal, MathContext)} and {@link #gamma(BigDecimal, MathContext)}.
+	 * Values with a precision of less than 100 digits are not stored,
+	 * precisions covered by the constants embedded in the jar do not access the store.</p>
+	 *
+	 * <p>When a constant is not cached in memory, the file is memory-mapped and verified with its checksum,
+	 * and the constant is sliced to the requested precision if the file covers it.
+	 * Otherwise the constant is calculated and the file is replaced atomically if the new value is more precise.
+	 * Missing or corrupt files and failures to write a file are ignored.</p>
+	 *
+	 * <p>Storing constants is disabled by default.</p>
+	 *
+	 * @param directory the directory of the files, created if it does not exist
+	 * @throws IOException if the directory cannot be created
+	 * @see #disableConstantStore()
+	 */
+	public static void enableConstantStore(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		ConstantStore.setDefault(new ConstantStore(directory));
+	}
+
+	/**
+	 * Disables storing the calculated constants in files.
+	 *
+	 * <p>The constants that are already cached in memory are kept.</p>
+	 *
+	 * @see #enableConstantStore(Path)
+	 */
+	public static void disableConstantStore() {
+		ConstantStore.setDefault(null);
+	}
+
+	static void clearConstantCaches() {
+		for (ConstantCache cache : Arrays.asList(log2Cache, log3Cache, log10Cache, piCache, eCache, halfPiCache, sqrtTwoCache, halfLogTwoPiCache)) {
+			cache.clear();
+		}
+		spougeFactorialConstantsCache.clear();
+	}
 
 	/**
 	 * Calculates the factorial of the specified {@link BigDecimal}.
 	 *
 	 * <p>This implementation uses
 	 * <a href="https://en.wikipedia.org/wiki/Spouge%27s_approximation">Spouge's approximation</a>
-	 * to calculate the factorial for non-integer values.</p>
+	 * to calculate the factorial for non-integer values.
+	 * Arguments that are large compared to the precision are calculated with the
+	 * Stirling series of {@link #logGamma(BigDecimal, MathContext)} instead.</p>
 	 *
 	 * <p>This involves calculating a series of constants that depend on the desired precision.
 	 * Since this constant calculation is quite expensive (especially for higher precisions),
 	 * the constants for a specific precision will be cached
-	 * and subsequent calls to this method with the same precision will be much faster.</p>
+	 * and subsequent calls to this method with the same precision will be much faster.
+	 * Only the constants for a few recently used precisions are kept in the cache.</p>
 	 *
 	 * <p>It is therefore recommended to do one call to this method with the standard precision of your application during the startup phase
-	 * and to avoid calling it with many different precisions.</p>
+	 * and to avoid calling it with many different precisions.
+	 * The constants can also be stored and loaded with {@link #exportFactorialConstants(MathContext)}.</p>
 	 *
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Factorial#Extension_of_factorial_to_non-integer_values_of_argument">Wikipedia: Factorial - Extension of factorial to non-integer values of argument</a></p>
 	 *
@@ -543,11 +832,16 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return round(factorial(x.intValueExact()), mathContext);
 		}
 
-		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
 		checkMathContext(mathContext);
+		BigDecimal xPlusOne = x.add(ONE);
+		if (isStirlingGammaArgument(xPlusOne, mathContext)) {
+			return gammaStirling(xPlusOne, mathContext);
+		}
+
+		// https://en.wikipedia.org/wiki/Spouge%27s_approximation
 		MathContext mc = new MathContext(mathContext.getPrecision() << 1, mathContext.getRoundingMode());
 
-		int a = mathContext.getPrecision() * 13 / 10;
+		int a = spougeFactorialParameter(mathContext);
 		List<BigDecimal> constants = getSpougeFactorialConstants(a);
 
 		BigDecimal bigA = BigDecimal.valueOf(a);
@@ -567,33 +861,95 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return round(result, mathContext);
 	}
 
+	static int spougeFactorialParameter(MathContext mathContext) {
+		return mathContext.getPrecision() * 13 / 10;
+	}
+
 	static List<BigDecimal> getSpougeFactorialConstants(int a) {
-		synchronized (spougeFactorialConstantsCacheLock) {
-			return spougeFactorialConstantsCache.computeIfAbsent(a, key -> {
-				List<BigDecimal> constants = new ArrayList<>(a);
-				MathContext mc = new MathContext(a * 15 / 10);
-
-				BigDecimal c0 = sqrt(pi(mc).multiply(TWO, mc), mc);
-				constants.add(c0);
-
-				boolean negative = false;
-				for (int k = 1; k < a; k++) {
-					BigDecimal bigK = BigDecimal.valueOf(k);
-					long deltaAK = (long)a - k;
-					BigDecimal ck = pow(BigDecimal.valueOf(deltaAK), bigK.subtract(ONE_HALF), mc);
-					ck = ck.multiply(exp(BigDecimal.valueOf(deltaAK), mc), mc);
-					ck = ck.divide(factorial(k - 1), mc);
-					if (negative) {
-						ck = ck.negate();
-					}
-					constants.add(ck);
+		return spougeFactorialConstantsCache.get(a);
+	}
 
-					negative = !negative;
-				}
+	private static List<BigDecimal> calculateSpougeFactorialConstants(int a) {
+		// c(k) = (-1)^(k-1) * (a-k)^(k-1/2) * e^(a-k) / (k-1)!
+		MathContext mc = new MathContext(a * 15 / 10);
+		// the powers of e accumulate a relative error of up to a ulps
+		MathContext mcGuard = new MathContext(mc.getPrecision() + Integer.toString(a).length() + 2);
+
+		BigDecimal[] constants = new BigDecimal[a];
+		constants[0] = sqrt(pi(mcGuard).multiply(TWO, mcGuard), mcGuard).round(mc);
+
+		BigDecimal e = e(mcGuard);
+		calculateSpougeFactorialConstants(constants, 1, a, e, mc, mcGuard);
+
+		return Collections.unmodifiableList(Arrays.asList(constants));
+	}
+
+	// the independent constants are calculated like the leaves of a product tree, in parallel only if enabled
+	private static Void calculateSpougeFactorialConstants(BigDecimal[] constants, int fromK, int toK, BigDecimal e, MathContext mc, MathContext mcGuard) {
+		if (toK - fromK <= 1) {
+			if (fromK < toK) {
+				constants[fromK] = calculateSpougeFactorialConstant(constants.length, fromK, e, mc, mcGuard);
+			}
+			return null;
+		}
+		int midK = (fromK + toK) >>> 1;
+		return ProductTreeExecutor.evaluate(toK - fromK,
+				() -> calculateSpougeFactorialConstants(constants, fromK, midK, e, mc, mcGuard),
+				() -> calculateSpougeFactorialConstants(constants, midK, toK, e, mc, mcGuard),
+				(left, right) -> null);
+	}
 
-				return Collections.unmodifiableList(constants);
-			});
+	private static BigDecimal calculateSpougeFactorialConstant(int a, int k, BigDecimal e, MathContext mc, MathContext mcGuard) {
+		int deltaAK = a - k;
+		BigDecimal bigDeltaAK = valueOf(deltaAK);
+		BigDecimal ck = new BigDecimal(BigInteger.valueOf(deltaAK).pow(k - 1))
+				.divide(new BigDecimal(FactorialCalculator.factorial(k - 1)), mcGuard);
+		ck = ck.multiply(sqrt(bigDeltaAK, mcGuard), mcGuard);
+		ck = ck.multiply(pow(e, deltaAK, mcGuard), mcGuard);
+		if ((k & 1) == 0) {
+			ck = ck.negate();
+		}
+		return ck.round(mc);
+	}
+
+	/**
+	 * Returns the constants used by {@link #factorial(BigDecimal, MathContext)} and {@link #gamma(BigDecimal, MathContext)}
+	 * for the specified {@link MathContext}, calculating them if they are not cached.
+	 *
+	 * <p>The returned constants can be stored by the application and imported with
+	 * {@link #importFactorialConstants(List, MathContext)} in later runs,
+	 * so that the expensive calculation is avoided.</p>
+	 *
+	 * @param mathContext the {@link MathContext} of the factorial calculations
+	 * @return the unmodifiable list of constants
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #importFactorialConstants(List, MathContext)
+	 */
+	public static List<BigDecimal> exportFactorialConstants(MathContext mathContext) {
+		checkMathContext(mathContext);
+		return getSpougeFactorialConstants(spougeFactorialParameter(mathContext));
+	}
+
+	/**
+	 * Imports the constants used by {@link #factorial(BigDecimal, MathContext)} and {@link #gamma(BigDecimal, MathContext)}
+	 * for the specified {@link MathContext} into the cache.
+	 *
+	 * <p>The constants must have been exported with {@link #exportFactorialConstants(MathContext)}
+	 * using a {@link MathContext} with the same precision.</p>
+	 *
+	 * @param constants the list of constants
+	 * @param mathContext the {@link MathContext} of the factorial calculations
+	 * @throws IllegalArgumentException if the number of constants does not match the precision
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #exportFactorialConstants(MathContext)
+	 */
+	public static void importFactorialConstants(List<BigDecimal> constants, MathContext mathContext) {
+		checkMathContext(mathContext);
+		int a = spougeFactorialParameter(mathContext);
+		if (constants.size() != a) {
+			throw new IllegalArgumentException("Expected " + a + " constants for precision " + mathContext.getPrecision() + ": " + constants.size());
 		}
+		spougeFactorialConstantsCache.put(a, Collections.unmodifiableList(new ArrayList<>(constants)));
 	}
 
 	/**
@@ -615,6 +971,137 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return factorial(x.subtract(ONE), mathContext);
 	}
 
+	/**
+	 * Calculates the natural logarithm of the gamma function of the specified {@link BigDecimal}.
+	 *
+	 * <p>This implementation uses the asymptotic
+	 * <a href="https://en.wikipedia.org/wiki/Stirling%27s_approximation#Stirling_series">Stirling series</a>
+	 * with Bernoulli numbers.
+	 * Small arguments are shifted up with the recurrence gamma(x+1) = x*gamma(x) until the series converges quickly.</p>
+	 *
+	 * <p>Since the gamma value itself is never calculated, this method can be used to calculate
+	 * ratios of gamma values for large arguments without huge intermediate results.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Gamma_function#The_log-gamma_function">Wikipedia: Gamma function - The log-gamma function</a></p>
+	 *
+	 * @param x the {@link BigDecimal}
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the natural logarithm of the gamma {@link BigDecimal}
+	 * @throws ArithmeticException if x &lt;= 0
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 * @see #gamma(BigDecimal, MathContext)
+	 */
+	public static BigDecimal logGamma(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		if (x.signum() <= 0) {
+			throw new ArithmeticException("Illegal logGamma(x) for x <= 0: x = " + x);
+		}
+		if (x.compareTo(ONE) == 0 || x.compareTo(TWO) == 0) {
+			return ZERO;
+		}
+
+		// close to the zeroes at 1 and 2 more absolute digits are needed for the relative precision
+		int digits = mathContext.getPrecision() + 4;
+		while (true) {
+			BigDecimal result = logGammaAbsolute(x, digits, mathContext.getRoundingMode());
+			int requiredDigits = mathContext.getPrecision() + 4 - exponent(result);
+			if (requiredDigits <= digits) {
+				return round(result, mathContext);
+			}
+			digits = requiredDigits;
+		}
+	}
+
+	private static boolean isStirlingGammaArgument(BigDecimal x, MathContext mathContext) {
+		// large arguments need no shifting, gammaStirling() calculates with precision + 4 digits
+		return x.compareTo(valueOf(stirlingMinimumArgument(mathContext.getPrecision() + 4))) >= 0;
+	}
+
+	private static BigDecimal gammaStirling(BigDecimal x, MathContext mathContext) {
+		// gamma(x) = exp(logGamma(x+m)) / (x * (x+1) * ... * (x+m-1))
+		int digits = mathContext.getPrecision() + 4;
+		MathContext mc = new MathContext(digits, mathContext.getRoundingMode());
+
+		int m = stirlingShift(x, digits);
+		BigDecimal result = exp(logGammaStirling(x.add(valueOf(m)), digits, mathContext.getRoundingMode()), mc);
+		if (m > 0) {
+			result = result.divide(risingFactorial(x, m, mc), mc);
+		}
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates logGamma(x) with an absolute error of about 10<sup>-digits</sup>.
+	 */
+	private static BigDecimal logGammaAbsolute(BigDecimal x, int digits, RoundingMode roundingMode) {
+		// logGamma(x) = logGamma(x+m) - log(x * (x+1) * ... * (x+m-1))
+		int m = stirlingShift(x, digits);
+		BigDecimal result = logGammaStirling(x.add(valueOf(m)), digits, roundingMode);
+		if (m > 0) {
+			MathContext mcProduct = new MathContext(digits + exponent(valueOf(m)) + 3, roundingMode);
+			BigDecimal product = risingFactorial(x, m, mcProduct);
+			MathContext mcLog = new MathContext(digits + Math.max(0, exponent(result)) + 3, roundingMode);
+			result = result.subtract(log(product, mcLog));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the number m, so that the Stirling series for logGamma(x+m) converges quickly to the specified number of digits.
+	 */
+	private static int stirlingShift(BigDecimal x, int digits) {
+		int minimumArgument = stirlingMinimumArgument(digits);
+		if (x.compareTo(valueOf(minimumArgument)) >= 0) {
+			return 0;
+		}
+		return minimumArgument - x.intValue();
+	}
+
+	/**
+	 * Returns the smallest z, so that the Stirling series for logGamma(z) converges to the specified number of digits.
+	 */
+	private static int stirlingMinimumArgument(int digits) {
+		// the smallest term of the series for logGamma(z) is about exp(-2*pi*z),
+		// it must be smaller than the 10^-(digits+2) that ends the series in logGammaStirling()
+		return (int) Math.ceil((digits + 3) * Math.log(10) / (2 * Math.PI)) + 1;
+	}
+
+	private static BigDecimal risingFactorial(BigDecimal x, int m, MathContext mathContext) {
+		BigDecimal result = x;
+		for (int i = 1; i < m; i++) {
+			result = result.multiply(x.add(valueOf(i)), mathContext);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates logGamma(z) with an absolute error of about 10<sup>-digits</sup> using the Stirling series.
+	 */
+	private static BigDecimal logGammaStirling(BigDecimal z, int digits, RoundingMode roundingMode) {
+		// logGamma(z) = (z-1/2)*log(z) - z + log(2*pi)/2 + sum(B(2k) / (2k*(2k-1)*z^(2k-1)))
+		int exponentZ = exponent(z);
+		int magnitude = Math.max(0, exponentZ + exponent(valueOf(3L * (exponentZ + 1))) + 2);
+		MathContext mc = new MathContext(digits + magnitude + 2, roundingMode);
+
+		BigDecimal result = z.subtract(ONE_HALF).multiply(log(z, mc), mc).subtract(z, mc);
+		result = result.add(halfLogTwoPiCache.get(mc), mc);
+
+		// the error of the asymptotic series is smaller than the first omitted term
+		MathContext mcSeries = new MathContext(digits + 2, roundingMode);
+		BigDecimal epsilon = ONE.movePointLeft(digits + 2);
+		BigDecimal inverseZSquared = ONE.divide(z.multiply(z), mcSeries);
+		BigDecimal inverseZPower = ONE.divide(z, mcSeries);
+		for (int k = 1; ; k++) {
+			BigRational factor = BigRational.bernoulli(2 * k).divide(2 * k * (2 * k - 1));
+			BigDecimal term = factor.toBigDecimal(mcSeries).multiply(inverseZPower, mcSeries);
+			result = result.add(term, mc);
+			if (term.abs().compareTo(epsilon) < 0) {
+				return result;
+			}
+			inverseZPower = inverseZPower.multiply(inverseZSquared, mcSeries);
+		}
+	}
+
 	/**
 	 * Calculates the Bernoulli number for the specified index.
 	 *
@@ -791,17 +1278,29 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			throw new ArithmeticException("Illegal sqrt(x) for x < 0: x = " + x);
 		}
 
+		if (x.compareTo(TWO) == 0) {
+			return sqrtTwoCache.get(mathContext);
+		}
+
+		return sqrtNewton(x, mathContext);
+	}
+
+	private static BigDecimal sqrtNewton(BigDecimal x, MathContext mathContext) {
 		int maxPrecision = mathContext.getPrecision() + 6;
 		BigDecimal acceptableError = ONE.movePointLeft(mathContext.getPrecision() + 1);
 
 		BigDecimal result;
 		int adaptivePrecision;
-		if (isDoubleValue(x)) {
-			result = BigDecimal.valueOf(Math.sqrt(x.doubleValue()));
+		double doubleX = x.doubleValue();
+		if (doubleX > 0.0 && isDoubleValue(x)) {
+			result = BigDecimal.valueOf(Math.sqrt(doubleX));
 			adaptivePrecision = EXPECTED_INITIAL_PRECISION;
 		} else {
-			result = x.multiply(ONE_HALF, mathContext);
-			adaptivePrecision = 1;
+			// outside of the double range: sqrt(m * 10^2k) = sqrt(m) * 10^k
+			int halfExponent = Math.floorDiv(exponent(x), 2);
+			BigDecimal mantissa = x.movePointLeft(halfExponent * 2);
+			result = BigDecimal.valueOf(Math.sqrt(mantissa.doubleValue())).movePointRight(halfExponent);
+			adaptivePrecision = EXPECTED_INITIAL_PRECISION;
 		}
 		
 		BigDecimal last;
@@ -811,19 +1310,117 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 				return round(result, mathContext); // early exit if x is a square number
 			}
 
-			do {
-				last = result;
-				adaptivePrecision <<= 1;
-				if (adaptivePrecision > maxPrecision) {
-					adaptivePrecision = maxPrecision;
-				}
-				MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
-				result = x.divide(result, mc).add(last).multiply(ONE_HALF, mc);
+			if (mathContext.getPrecision() >= SQRT_RECIPROCAL_PRECISION_THRESHOLD) {
+				return sqrtReciprocal(x, mathContext);
+			}
+
+			do {
+				last = result;
+				adaptivePrecision <<= 1;
+				if (adaptivePrecision > maxPrecision) {
+					adaptivePrecision = maxPrecision;
+				}
+				MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
+				result = x.divide(result, mc).add(last).multiply(ONE_HALF, mc);
+			}
+			while (adaptivePrecision < maxPrecision || result.subtract(last).abs().compareTo(acceptableError) > 0);
+		}
+
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates the square root from the integer square root of the scaled mantissa of x.
+	 *
+	 * <p>At high precision the divisions of the Newton iteration in {@link #sqrtNewton(BigDecimal, MathContext)}
+	 * are much more expensive than multiplications, while {@link #floorSqrtAndRemainder(BigInteger)} only multiplies and shifts.</p>
+	 */
+	private static BigDecimal sqrtReciprocal(BigDecimal x, MathContext mathContext) {
+		int maxPrecision = mathContext.getPrecision() + 6;
+
+		// x = m * 10^-2k with m having at least 2*maxPrecision digits, so that sqrt(x) = sqrt(m) * 10^-k
+		long shift = 2L * maxPrecision - x.precision();
+		shift += Math.floorMod(x.scale() + shift, 2);
+		BigInteger mantissa = shift >= 0 ? x.unscaledValue().multiply(BigInteger.TEN.pow((int) shift)) : x.unscaledValue().divide(BigInteger.TEN.pow((int) -shift));
+
+		BigInteger[] rootAndRemainder = floorSqrtAndRemainder(mantissa);
+		BigDecimal result = new BigDecimal(rootAndRemainder[0], (int) ((x.scale() + shift) / 2));
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates the largest integer r with r<sup>2</sup> &lt;= n and the remainder n - r<sup>2</sup>.
+	 *
+	 * <p>Newton iterations on y = 1/sqrt(n) (with y<sub>k+1</sub> = y<sub>k</sub> + y<sub>k</sub> * (1 - n * y<sub>k</sub><sup>2</sup>) / 2)
+	 * double the number of correct bits using only multiplications.
+	 * Every iteration is calculated in fixed point arithmetic with just the bits that are already correct.
+	 * Once y is correct to half of the bits of the result, a single multiplication by n and one correction step
+	 * give the square root to the full number of bits.</p>
+	 *
+	 * <p>See: <a href="https://en.wikipedia.org/wiki/Methods_of_computing_square_roots#Iterative_methods_for_reciprocal_square_roots">Wikipedia: Methods of computing square roots - Iterative methods for reciprocal square roots</a></p>
+	 */
+	private static BigInteger[] floorSqrtAndRemainder(BigInteger n) {
+		// n = a * 2^(2e) with 1/4 <= a < 1, therefore 1 < 1/sqrt(a) <= 2
+		int e = (n.bitLength() + 1) / 2;
+		int halfBits = e / 2 + SQRT_GUARD_BITS;
+		if (halfBits <= SQRT_SEED_BITS + SQRT_GUARD_BITS) {
+			BigInteger result = floorSqrtSeed(n);
+			return new BigInteger[] { result, n.subtract(result.multiply(result)) };
+		}
+
+		// y = 1/sqrt(a) as fixed point number with q fractional bits
+		int q = SQRT_SEED_BITS;
+		BigInteger y = BigInteger.ONE.shiftLeft(2 * q).divide(floorSqrtSeed(shiftLeft(n, 2 * q - 2 * e)));
+		while (q < halfBits) {
+			int nextQ = Math.min(2 * q - SQRT_GUARD_BITS / 4, halfBits);
+			BigInteger a = shiftLeft(n, nextQ - 2 * e);
+			BigInteger ySquare = y.multiply(y).shiftRight(2 * q - nextQ);
+			BigInteger error = BigInteger.ONE.shiftLeft(nextQ).subtract(a.multiply(ySquare).shiftRight(nextQ));
+			y = y.shiftLeft(nextQ - q).add(y.multiply(error).shiftRight(q + 1));
+			q = nextQ;
+		}
+
+		// sqrt(a) = a * y, corrected once with r += y * (n - r^2) / 2
+		BigInteger sqrtA = shiftLeft(n, q - 2 * e).multiply(y).shiftRight(q);
+		BigInteger result = sqrtA.shiftLeft(e - q);
+		BigInteger remainder = n.subtract(sqrtA.multiply(sqrtA).shiftLeft(2 * (e - q)));
+		int remainderShift = Math.max(0, remainder.bitLength() - (e - q + SQRT_GUARD_BITS));
+		result = result.add(y.multiply(remainder.shiftRight(remainderShift)).shiftRight(q + e + 1 - remainderShift));
+
+		// the result may be off by a few units in the last place
+		remainder = n.subtract(result.multiply(result));
+		while (remainder.signum() < 0) {
+			result = result.subtract(BigInteger.ONE);
+			remainder = remainder.add(result.shiftLeft(1)).add(BigInteger.ONE);
+		}
+		while (remainder.compareTo(result.shiftLeft(1)) > 0) {
+			remainder = remainder.subtract(result.shiftLeft(1)).subtract(BigInteger.ONE);
+			result = result.add(BigInteger.ONE);
+		}
+		return new BigInteger[] { result, remainder };
+	}
+
+	private static BigInteger shiftLeft(BigInteger value, int n) {
+		return n >= 0 ? value.shiftLeft(n) : value.shiftRight(-n);
+	}
+
+	private static BigInteger floorSqrtSeed(BigInteger n) {
+		if (BIG_INTEGER_SQRT != null) {
+			try {
+				return (BigInteger) BIG_INTEGER_SQRT.invokeExact(n);
+			} catch (Throwable ex) {
+				// fall through to the portable implementation
 			}
-			while (adaptivePrecision < maxPrecision || result.subtract(last).abs().compareTo(acceptableError) > 0);
 		}
+		return floorRoot(n, 2);
+	}
 
-		return round(result, mathContext);
+	private static MethodHandle findBigIntegerSqrt() {
+		try {
+			return MethodHandles.publicLookup().findVirtual(BigInteger.class, "sqrt", MethodType.methodType(BigInteger.class));
+		} catch (NoSuchMethodException | IllegalAccessException ex) {
+			return null;
+		}
 	}
 
 	/**
@@ -855,6 +1452,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 				throw new ArithmeticException("Illegal root(x, n) for x < 0: x = " + x);
 		}
 
+		if (isIntValue(n)) {
+			return root(x, n.intValueExact(), mathContext);
+		}
+
 		if (isDoubleValue(x) && isDoubleValue(n)) {
 			double initialResult = Math.pow(x.doubleValue(), 1.0 / n.doubleValue());
 			if (Double.isFinite(initialResult)) {
@@ -867,6 +1468,123 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		return pow(x, BigDecimal.ONE.divide(n, mc), mathContext);
 	}
 
+	/**
+	 * Calculates the n'th root of {@link BigDecimal} x for an integer n.
+	 *
+	 * <p>The start value is the exact integer n'th root of the scaled mantissa of x,
+	 * which is refined by Newton iterations that double the precision in every step.
+	 * If x is the n'th power of a value with less than the requested precision, that value is returned exactly.</p>
+	 *
+	 * <p>See <a href="https://en.wikipedia.org/wiki/Nth_root">Wikipedia: Nth root</a></p>
+	 * @param x the {@link BigDecimal} value to calculate the n'th root
+	 * @param n the <code>int</code> defining the root
+	 * @param mathContext the {@link MathContext} used for the result
+	 *
+	 * @return the calculated n'th root of x with the precision specified in the <code>mathContext</code>
+	 * @throws ArithmeticException if n &lt;= 0
+	 * @throws ArithmeticException if x &lt; 0
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 */
+	public static BigDecimal root(BigDecimal x, int n, MathContext mathContext) {
+		checkMathContext(mathContext);
+
+		if (n <= 0) {
+			throw new ArithmeticException("Illegal root(x, n) for n <= 0: n = " + n);
+		}
+
+		switch (x.signum()) {
+			case 0:
+				return ZERO;
+			case -1:
+				throw new ArithmeticException("Illegal root(x, n) for x < 0: x = " + x);
+		}
+
+		switch (n) {
+			case 1:
+				return round(x, mathContext);
+			case 2:
+				return sqrt(x, mathContext);
+		}
+
+		int maxPrecision = mathContext.getPrecision() + 6;
+
+		// enough digits to find the exact root of a perfect power
+		int seedDigits = Math.min(Math.max(EXPECTED_INITIAL_PRECISION, x.precision() / n + 2), maxPrecision);
+
+		BigDecimal result;
+		if ((long) n * seedDigits <= MAX_ROOT_SEED_DIGITS) {
+			// x = m * 10^-(n*k) with m having at least n*seedDigits digits, so that root(x, n) = root(m, n) * 10^-k
+			long shift = (long) n * seedDigits - x.precision();
+			shift += Math.floorMod(-(x.scale() + shift), n);
+			boolean exact = shift >= 0;
+			BigInteger mantissa = exact ? x.unscaledValue().multiply(BigInteger.TEN.pow((int) shift)) : x.unscaledValue().divide(BigInteger.TEN.pow((int) -shift));
+			BigInteger rootMantissa = floorRoot(mantissa, n);
+			result = new BigDecimal(rootMantissa, (int) ((x.scale() + shift) / n));
+
+			if (exact && rootMantissa.pow(n).equals(mantissa)) {
+				return round(result.stripTrailingZeros(), mathContext); // early exit if x is a perfect power
+			}
+		} else {
+			// the scaled mantissa would be too large for very high n
+			MathContext mcSeed = new MathContext(EXPECTED_INITIAL_PRECISION + 2, mathContext.getRoundingMode());
+			result = exp(log(x, mcSeed).divide(valueOf(n), mcSeed), mcSeed);
+			seedDigits = EXPECTED_INITIAL_PRECISION;
+		}
+
+		BigDecimal nValue = valueOf(n);
+		int adaptivePrecision = seedDigits;
+		BigDecimal step;
+		do {
+			adaptivePrecision <<= 1;
+			if (adaptivePrecision > maxPrecision) {
+				adaptivePrecision = maxPrecision;
+			}
+			MathContext mc = new MathContext(adaptivePrecision, mathContext.getRoundingMode());
+
+			step = x.divide(pow(result, n - 1, mc), mc).subtract(result, mc).divide(nValue, mc);
+			result = result.add(step, mc);
+		} while (adaptivePrecision < maxPrecision || (step.signum() != 0 && exponent(result) - exponent(step) <= mathContext.getPrecision()));
+
+		return round(result, mathContext);
+	}
+
+	/**
+	 * Calculates the largest integer r with r<sup>n</sup> &lt;= m.
+	 *
+	 * <p>The upper half of the digits is calculated recursively from the upper bits of m
+	 * and then refined with Newton iterations in integer arithmetic.</p>
+	 */
+	private static BigInteger floorRoot(BigInteger m, int n) {
+		int rootBits = m.bitLength() / n + 1;
+		if (rootBits <= 40) {
+			int shift = Math.max(0, m.bitLength() - 60);
+			double estimate = Math.exp((Math.log(m.shiftRight(shift).doubleValue()) + shift * Math.log(2)) / n);
+			BigInteger result = BigInteger.valueOf(Math.round(estimate));
+			while (result.signum() > 0 && result.pow(n).compareTo(m) > 0) {
+				result = result.subtract(BigInteger.ONE);
+			}
+			while (result.add(BigInteger.ONE).pow(n).compareTo(m) <= 0) {
+				result = result.add(BigInteger.ONE);
+			}
+			return result;
+		}
+
+		int halfBits = rootBits / 2;
+		BigInteger result = floorRoot(m.shiftRight(n * halfBits), n).shiftLeft(halfBits).max(BigInteger.ONE);
+
+		// the Newton iteration starting at any positive value lands above the root and then decreases monotonically
+		BigInteger nMinus1 = BigInteger.valueOf(n - 1);
+		BigInteger bigN = BigInteger.valueOf(n);
+		result = result.multiply(nMinus1).add(m.divide(result.pow(n - 1))).divide(bigN);
+		while (true) {
+			BigInteger next = result.multiply(nMinus1).add(m.divide(result.pow(n - 1))).divide(bigN);
+			if (next.compareTo(result) >= 0) {
+				return result;
+			}
+			result = next;
+		}
+	}
+
 	private static BigDecimal rootUsingNewtonRaphson(BigDecimal x, BigDecimal n, BigDecimal initialResult, MathContext mathContext) {
 		if (n.compareTo(BigDecimal.ONE) <= 0) {
 			MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
@@ -923,10 +1641,10 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			result = logTen(mathContext);
 			break;
 		case 1:
-			result = logUsingExponent(x, mathContext);
+			result = isLogAgmPrecision(mathContext) ? logUsingAgm(x, mathContext) : logUsingExponent(x, mathContext);
 			break;
 		default :
-			result = logUsingTwoThree(x, mathContext);
+			result = isLogAgmPrecision(mathContext) ? logUsingAgm(x, mathContext) : logUsingTwoThree(x, mathContext);
 		}
 
 		return round(result, mathContext);
@@ -945,7 +1663,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
 
-		BigDecimal result = log(x, mc).divide(logTwo(mc), mc);
+		BigDecimal result = NewtonDivision.divide(log(x, mc), logTwo(mc), mc);
 		return round(result, mathContext);
 	}
 	
@@ -962,7 +1680,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 2, mathContext.getRoundingMode());
 
-		BigDecimal result = log(x, mc).divide(logTen(mc), mc);
+		BigDecimal result = NewtonDivision.divide(log(x, mc), logTen(mc), mc);
 		return round(result, mathContext);
 	}
 	
@@ -1131,6 +1849,60 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
         return result;
     }
 
+    private static boolean isLogAgmPrecision(MathContext mathContext) {
+		return mathContext.getPrecision() >= LOG_AGM_PRECISION_THRESHOLD;
+	}
+
+	private static BigDecimal logUsingAgm(BigDecimal x, MathContext mathContext) {
+		// https://en.wikipedia.org/wiki/Natural_logarithm in chapter 'High Precision'
+		// log(x) = pi / (2 * agm(1, 4/s)) - m * log(2) with s = x * 2^m large enough
+
+		int exponent = exponent(x);
+		if (Math.abs(exponent) >= 2) {
+			// |log(x)| > 4, therefore splitting off the powers of ten does not cancel any digits
+			MathContext mc = new MathContext(mathContext.getPrecision() + 4 + String.valueOf(exponent).length(), mathContext.getRoundingMode());
+			BigDecimal result = logUsingAgm(mantissa(x), mc).add(valueOf(exponent).multiply(logTen(mc), mc), mc);
+			return round(result, mathContext);
+		}
+
+		// digits lost in the final subtraction if x is close to 1
+		BigDecimal xMinusOne = x.subtract(ONE);
+		int cancelledDigits = xMinusOne.signum() == 0 ? 0 : Math.max(0, -exponent(xMinusOne));
+
+		int workingPrecision = mathContext.getPrecision() + cancelledDigits + 10;
+		int integerDigits = String.valueOf(workingPrecision).length() + 1;
+		MathContext mc = new MathContext(workingPrecision + integerDigits, mathContext.getRoundingMode());
+
+		int m = logAgmShift(workingPrecision + integerDigits, x.doubleValue());
+		BigDecimal s = x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(m)));
+		BigDecimal result = logUsingAgmLargeArgument(s, mc);
+		result = result.subtract(valueOf(m).multiply(logTwo(mc), mc), mc);
+
+		return round(result, mathContext);
+	}
+
+	private static int logAgmShift(int precision, double x) {
+		// the error of the approximation is O(1/s^2), so s must be larger than 10^(precision/2)
+		double log2S = (precision / 2 + 2) * Math.log(10) / Math.log(2);
+		return Math.max(1, (int) Math.ceil(log2S - Math.log(x) / Math.log(2)));
+	}
+
+	private static BigDecimal logUsingAgmLargeArgument(BigDecimal s, MathContext mathContext) {
+		BigDecimal a = ONE;
+		BigDecimal b = FOUR.divide(s, mathContext);
+
+		// quadratic convergence: once a and b agree to half the precision the next mean is accurate
+		int halfPrecision = mathContext.getPrecision() / 2 + 1;
+		while (a.subtract(b).abs().compareTo(a.movePointLeft(halfPrecision)) > 0) {
+			BigDecimal nextA = a.add(b).multiply(ONE_HALF, mathContext);
+			b = sqrt(a.multiply(b, mathContext), mathContext);
+			a = nextA;
+		}
+		BigDecimal agm = a.add(b).multiply(ONE_HALF, mathContext);
+
+		return NewtonDivision.divide(pi(mathContext), agm.multiply(TWO, mathContext), mathContext);
+	}
+
     /**
 	 * Returns the number pi.
 	 * 
@@ -1142,58 +1914,20 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal pi(MathContext mathContext) {
 		checkMathContext(mathContext);
-		BigDecimal result = null;
-		
-		synchronized (piCacheLock) {
-			if (piCache != null && mathContext.getPrecision() <= piCache.precision()) {
-				result = piCache;
-			} else {
-				piCache = piChudnovski(mathContext);
-				return piCache;
-			}
-		}
-
-		return round(result, mathContext);
+		return piCache.get(mathContext);
 	}
 
 	private static BigDecimal piChudnovski(MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
-		final BigDecimal value24 = BigDecimal.valueOf(24);
-		final BigDecimal value640320 = BigDecimal.valueOf(640320);
-		final BigDecimal value13591409 = BigDecimal.valueOf(13591409);
-		final BigDecimal value545140134 = BigDecimal.valueOf(545140134);
-		final BigDecimal valueDivisor = value640320.pow(3).divide(value24, mc);
-
-		BigDecimal sumA = BigDecimal.ONE;
-		BigDecimal sumB = BigDecimal.ZERO;
-
-		BigDecimal a = BigDecimal.ONE;
-		long dividendTerm1 = 5; // -(6*k - 5)
-		long dividendTerm2 = -1; // 2*k - 1
-		long dividendTerm3 = -1; // 6*k - 1
-		BigDecimal kPower3 = BigDecimal.ZERO;
-		
+		// every term of the series contributes ~14.18 digits
 		long iterationCount = (mc.getPrecision()+13) / 14;
-		for (long k = 1; k <= iterationCount; k++) {
-			BigDecimal valueK = BigDecimal.valueOf(k);
-			dividendTerm1 += -6;
-			dividendTerm2 += 2;
-			dividendTerm3 += 6;
-			BigDecimal dividend = BigDecimal.valueOf(dividendTerm1).multiply(BigDecimal.valueOf(dividendTerm2)).multiply(BigDecimal.valueOf(dividendTerm3));
-			kPower3 = valueK.pow(3);
-			BigDecimal divisor = kPower3.multiply(valueDivisor, mc);
-			a = a.multiply(dividend).divide(divisor, mc);
-			BigDecimal b = valueK.multiply(a, mc);
-			
-			sumA = sumA.add(a);
-			sumB = sumB.add(b);
-		}
-		
+		BinarySplittingCalculator.Result series = ChudnovskyCalculator.INSTANCE.calculate(0, iterationCount + 1);
+
 		final BigDecimal value426880 = BigDecimal.valueOf(426880);
 		final BigDecimal value10005 = BigDecimal.valueOf(10005);
 		final BigDecimal factor = value426880.multiply(sqrt(value10005, mc));
-		BigDecimal pi = factor.divide(value13591409.multiply(sumA, mc).add(value545140134.multiply(sumB, mc)), mc);
+		BigDecimal pi = NewtonDivision.divide(factor.multiply(new BigDecimal(series.getQ())), new BigDecimal(series.getT()), mc);
 
 		return round(pi, mathContext);
 	}
@@ -1209,65 +1943,60 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal e(MathContext mathContext) {
 		checkMathContext(mathContext);
-		BigDecimal result = null;
-		
-		synchronized (eCacheLock) {
-			if (eCache != null && mathContext.getPrecision() <= eCache.precision()) {
-				result = eCache;
-			} else {
-				eCache = exp(ONE, mathContext);
-				return eCache;
-			}
-		}
-
-		return round(result, mathContext);
+		return eCache.get(mathContext);
 	}
 	
 	private static BigDecimal logTen(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log10CacheLock) {
-			if (log10Cache != null && mathContext.getPrecision() <= log10Cache.precision()) {
-				result = log10Cache;
-			} else {
-				log10Cache = logUsingNewton(BigDecimal.TEN, mathContext);
-				return log10Cache;
-			}
-		}
-
-		return round(result, mathContext);
+		return log10Cache.get(mathContext);
 	}
 	
+	private static BigDecimal calculateHalfLogTwoPi(MathContext mathContext) {
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		return log(pi(mc).multiply(TWO, mc), mc).multiply(ONE_HALF, mc);
+	}
+
 	private static BigDecimal logTwo(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log2CacheLock) {
-			if (log2Cache != null && mathContext.getPrecision() <= log2Cache.precision()) {
-				result = log2Cache;
-			} else {
-				log2Cache = logUsingNewton(TWO, mathContext);
-				return log2Cache;
-			}
-		}
+		return log2Cache.get(mathContext);
+	}
 
+	private static BigDecimal logThree(MathContext mathContext) {
+		return log3Cache.get(mathContext);
+	}
+
+	private static BigDecimal calculateLogTen(MathContext mathContext) {
+		// log(10) = 3 log(2) + log(5/4) = 3 log(2) + 2 atanh(1/9)
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal result = logTwo(mc).multiply(THREE).add(atanhOfReciprocal(9, mc).multiply(TWO), mc);
 		return round(result, mathContext);
 	}
 
-	private static BigDecimal logThree(MathContext mathContext) {
-		BigDecimal result = null;
-		
-		synchronized (log3CacheLock) {
-			if (log3Cache != null && mathContext.getPrecision() <= log3Cache.precision()) {
-				result = log3Cache;
-			} else {
-				log3Cache = logUsingNewton(THREE, mathContext);
-				return log3Cache;
-			}
-		}
+	private static BigDecimal calculateLogTwo(MathContext mathContext) {
+		// log(2) = 2 atanh(1/3)
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal result = atanhOfReciprocal(3, mc).multiply(TWO);
+		return round(result, mathContext);
+	}
 
+	private static BigDecimal calculateLogThree(MathContext mathContext) {
+		// log(3) = log(2) + log(3/2) = log(2) + 2 atanh(1/5)
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal result = logTwo(mc).add(atanhOfReciprocal(5, mc).multiply(TWO), mc);
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates atanh(1/q) with binary splitting.
+	 *
+	 * <p>The logarithm constants are calculated this way (instead of with {@link #exp(BigDecimal, MathContext)})
+	 * because the argument reduction of {@link #exp(BigDecimal, MathContext)} needs log(2).
+	 * For all precisions this is also faster than the arithmetic-geometric mean.</p>
+	 */
+	private static BigDecimal atanhOfReciprocal(int q, MathContext mathContext) {
+		long termCount = AtanhBinarySplittingCalculator.estimateTermCount(q, mathContext.getPrecision());
+		BinarySplittingCalculator.Result series = new AtanhBinarySplittingCalculator(BigInteger.valueOf(q)).calculate(0, termCount);
+		return NewtonDivision.divide(new BigDecimal(series.getT()), new BigDecimal(series.getQ()), mathContext);
+	}
+
 	/**
 	 * Calculates the natural exponent of {@link BigDecimal} x (e<sup>x</sup>).
 	 * 
@@ -1284,38 +2013,91 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			return ONE;
 		}
 
-		return expIntegralFractional(x, mathContext);
+		if (isExpBinarySplittingArgument(x, mathContext)) {
+			return expBinarySplitting(x, mathContext);
+		}
+
+		return expReduced(x, mathContext);
 	}
 
-	private static BigDecimal expIntegralFractional(BigDecimal x, MathContext mathContext) {
-		BigDecimal integralPart = integralPart(x);
-		
-		if (integralPart.signum() == 0) {
-			return expTaylor(x, mathContext);
+	private static boolean isExpBinarySplittingArgument(BigDecimal x, MathContext mathContext) {
+		// only arguments with a short mantissa keep the integer products of the series small
+		if (x.scale() > EXP_BINARY_SPLITTING_MAX_SCALE || x.unscaledValue().bitLength() > EXP_BINARY_SPLITTING_MAX_BITS) {
+			return false;
 		}
-		
-		BigDecimal fractionalPart = x.subtract(integralPart);
+		return x.abs().compareTo(valueOf(Math.max(EXP_BINARY_SPLITTING_MIN_RANGE, mathContext.getPrecision()))) <= 0;
+	}
 
+	private static BigDecimal expBinarySplitting(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 10, mathContext.getRoundingMode());
 
-        BigDecimal z = ONE.add(fractionalPart.divide(integralPart, mc));
-        BigDecimal t = expTaylor(z, mc);
+		BigDecimal absX = x.abs();
+		BigInteger numerator;
+		BigInteger denominator;
+		if (absX.scale() <= 0) {
+			numerator = absX.toBigIntegerExact();
+			denominator = BigInteger.ONE;
+		} else {
+			numerator = absX.unscaledValue();
+			denominator = BigInteger.TEN.pow(absX.scale());
+		}
 
-        BigDecimal result = pow(t, integralPart.intValueExact(), mc);
+		long termCount = ExpBinarySplittingCalculator.estimateTermCount(absX.doubleValue(), mc.getPrecision());
+		BinarySplittingCalculator.Result series = new ExpBinarySplittingCalculator(numerator, denominator).calculate(0, termCount);
 
+		BigDecimal result;
+		if (x.signum() > 0) {
+			result = NewtonDivision.divide(new BigDecimal(series.getT()), new BigDecimal(series.getQ()), mc);
+		} else {
+			result = NewtonDivision.divide(new BigDecimal(series.getQ()), new BigDecimal(series.getT()), mc);
+		}
 		return round(result, mathContext);
 	}
-	
-	private static BigDecimal expTaylor(BigDecimal x, MathContext mathContext) {
+
+	private static BigDecimal expReduced(BigDecimal x, MathContext mathContext) {
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		x = x.divide(valueOf(256), mc);
-		
-		BigDecimal result = ExpCalculator.INSTANCE.calculate(x, mc);
-		result = BigDecimalMath.pow(result, 256, mc);
+		// x = k*log(2) + r with |r| <= log(2)/2 so that exp(x) = 2^k * exp(r)
+		long k = 0;
+		BigDecimal r = x;
+		if (x.abs().compareTo(ROUGHLY_HALF_LOG_TWO) > 0) {
+			k = x.divide(ROUGHLY_LOG_TWO, MathContext.DECIMAL64).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+			// the absolute error of r is roughly k * 10^-precision
+			MathContext mcLogTwo = new MathContext(mc.getPrecision() + exponent(valueOf(k)) + 2, mathContext.getRoundingMode());
+			r = x.subtract(logTwo(mcLogTwo).multiply(valueOf(k)), mc);
+		}
+
+		// exp(r) = exp(r / 2^n)^(2^n)
+		int halvingCount = expHalvingCount(r, mathContext);
+		MathContext mcSeries = new MathContext(mc.getPrecision() + halvingCount / 3 + 1, mathContext.getRoundingMode());
+
+		BigDecimal y = halvingCount == 0 ? r : r.divide(TWO.pow(halvingCount), mcSeries);
+		BigDecimal result = ExpCalculator.INSTANCE.calculate(y, mcSeries);
+		for (int i = 0; i < halvingCount; i++) {
+			result = result.multiply(result, mcSeries);
+		}
+
+		if (k != 0) {
+			result = result.multiply(pow(TWO, k, mcSeries), mcSeries);
+		}
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates how many times x should be halved so that the series converges fast enough
+	 * to pay for the squaring of the result.
+	 */
+	private static int expHalvingCount(BigDecimal x, MathContext mathContext) {
+		if (x.signum() == 0) {
+			return 0;
+		}
+
+		// halve until |x| < 2^-targetExponent
+		double targetExponent = Math.sqrt(mathContext.getPrecision());
+		double log2X = (exponent(x) + 1) / LOG10_OF_TWO;
+		return (int) Math.max(0, Math.ceil(targetExponent + log2X));
+	}
+
 	/**
 	 * Calculates the sine (sinus) of {@link BigDecimal} x.
 	 * 
@@ -1330,13 +2112,28 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			MathContext mc2 = new MathContext(mc.getPrecision() + 4, mathContext.getRoundingMode());
-			BigDecimal twoPi = TWO.multiply(pi(mc2));
-			x = x.remainder(twoPi, mc2);
+		if (x.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+			return round(SinCalculator.INSTANCE.calculate(x, mc), mathContext);
 		}
 
-		BigDecimal result = SinCalculator.INSTANCE.calculate(x, mc);
+		// sin(k*pi/2 + r) for the quadrants k mod 4
+		BigInteger quadrant = halfPiQuotient(x);
+		BigDecimal r = reduceByHalfPi(x, quadrant, mc);
+		BigDecimal result;
+		switch (quadrant.intValue() & 3) {
+		case 0:
+			result = SinCalculator.INSTANCE.calculate(r, mc);
+			break;
+		case 1:
+			result = CosCalculator.INSTANCE.calculate(r, mc);
+			break;
+		case 2:
+			result = SinCalculator.INSTANCE.calculate(r, mc).negate();
+			break;
+		default:
+			result = CosCalculator.INSTANCE.calculate(r, mc).negate();
+			break;
+		}
 		return round(result, mathContext);
 	}
 	
@@ -1389,16 +2186,118 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		if (x.abs().compareTo(ROUGHLY_TWO_PI) > 0) {
-			MathContext mc2 = new MathContext(mc.getPrecision() + 4, mathContext.getRoundingMode());
-			BigDecimal twoPi = TWO.multiply(pi(mc2), mc2);
-			x = x.remainder(twoPi, mc2);
+		if (x.abs().compareTo(ROUGHLY_QUARTER_PI) <= 0) {
+			return round(CosCalculator.INSTANCE.calculate(x, mc), mathContext);
+		}
+
+		// cos(k*pi/2 + r) for the quadrants k mod 4
+		BigInteger quadrant = halfPiQuotient(x);
+		BigDecimal r = reduceByHalfPi(x, quadrant, mc);
+		BigDecimal result;
+		switch (quadrant.intValue() & 3) {
+		case 0:
+			result = CosCalculator.INSTANCE.calculate(r, mc);
+			break;
+		case 1:
+			result = SinCalculator.INSTANCE.calculate(r, mc).negate();
+			break;
+		case 2:
+			result = CosCalculator.INSTANCE.calculate(r, mc).negate();
+			break;
+		default:
+			result = SinCalculator.INSTANCE.calculate(r, mc);
+			break;
 		}
-		
-		BigDecimal result = CosCalculator.INSTANCE.calculate(x, mc);
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates the sine (sinus) and the cosine (cosinus) of {@link BigDecimal} x.
+	 *
+	 * <p>This is faster than calling {@link #sin(BigDecimal, MathContext)} and {@link #cos(BigDecimal, MathContext)} separately,
+	 * because the argument reduction is done only once and the cosine is derived from the sine.</p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the sine and cosine for
+	 * @param mathContext the {@link MathContext} used for the results
+	 * @return an array containing the calculated sine (at index 0) and cosine (at index 1) {@link BigDecimal} with the precision specified in the <code>mathContext</code>
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 */
+	public static BigDecimal[] sinCos(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
+
+		BigInteger quadrant = BigInteger.ZERO;
+		BigDecimal r = x;
+		if (x.abs().compareTo(ROUGHLY_QUARTER_PI) > 0) {
+			quadrant = halfPiQuotient(x);
+			r = reduceByHalfPi(x, quadrant, mc);
+		}
+
+		// |r| <= pi/4, therefore cos(r) >= 0.7 and sqrt(1 - sin(r)^2) does not suffer from cancellation
+		BigDecimal sin = SinCalculator.INSTANCE.calculate(r, mc);
+		BigDecimal cos = sqrt(ONE.subtract(sin.multiply(sin, mc)), mc);
+
+		switch (quadrant.intValue() & 3) {
+		case 0:
+			return new BigDecimal[] { round(sin, mathContext), round(cos, mathContext) };
+		case 1:
+			return new BigDecimal[] { round(cos, mathContext), round(sin.negate(), mathContext) };
+		case 2:
+			return new BigDecimal[] { round(sin.negate(), mathContext), round(cos.negate(), mathContext) };
+		default:
+			return new BigDecimal[] { round(cos.negate(), mathContext), round(sin, mathContext) };
+		}
+	}
+
+	/**
+	 * Calculates the integer k that is nearest to x / (pi/2).
+	 *
+	 * <p>Only the integer part needs to be correct, therefore pi is needed with just a few digits more
+	 * than the integer digits of x.
+	 * If x lies close to an odd multiple of pi/4, k may be off by one which is harmless
+	 * since the remainder is then only slightly larger than pi/4.</p>
+	 */
+	private static BigInteger halfPiQuotient(BigDecimal x) {
+		MathContext mc = new MathContext(Math.max(0, exponent(x)) + 5);
+		return x.divide(halfPi(mc), mc).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+	}
+
+	/**
+	 * Calculates the remainder r = x - k * pi/2 with the precision specified in the {@link MathContext}.
+	 *
+	 * <p>Similar to the Payne-Hanek reduction the precision of pi/2 is not guessed but derived
+	 * from the number of digits of k and the number of leading digits that cancel out in the remainder,
+	 * so that the remainder has the full relative precision even for very large arguments
+	 * and for arguments close to a multiple of pi/2.</p>
+	 */
+	private static BigDecimal reduceByHalfPi(BigDecimal x, BigInteger k, MathContext mathContext) {
+		if (k.signum() == 0) {
+			return x;
+		}
+
+		BigDecimal bigK = new BigDecimal(k);
+		int extraPrecision = exponent(bigK) + 4;
+		while (true) {
+			MathContext mc = new MathContext(mathContext.getPrecision() + extraPrecision, mathContext.getRoundingMode());
+			BigDecimal r = x.subtract(halfPi(mc).multiply(bigK), mc);
+			if (r.signum() == 0) {
+				extraPrecision *= 2;
+				continue;
+			}
+
+			// the absolute error of r is roughly k * 10^-precision
+			int requiredExtraPrecision = exponent(bigK) - exponent(r) + 4;
+			if (requiredExtraPrecision <= extraPrecision) {
+				return r.round(mathContext);
+			}
+			extraPrecision = requiredExtraPrecision;
+		}
+	}
+
+	private static BigDecimal halfPi(MathContext mathContext) {
+		return halfPiCache.get(mathContext);
+	}
+
 	/**
 	 * Calculates the arc cosine (inverted cosine) of {@link BigDecimal} x.
 	 * 
@@ -1421,7 +2320,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		BigDecimal result = pi(mc).divide(TWO, mc).subtract(asin(x, mc));
+		BigDecimal result = halfPi(mc).subtract(asin(x, mc));
 		return round(result, mathContext);
 	}
 
@@ -1442,7 +2341,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = sin(x, mc).divide(cos(x, mc), mc);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		BigDecimal result = NewtonDivision.divide(sinCos[0], sinCos[1], mc);
 		return round(result, mathContext);
 	}
 	
@@ -1458,12 +2358,43 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	 */
 	public static BigDecimal atan(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
+		if (x.signum() == 0) {
+			return ZERO;
+		}
+		if (x.signum() < 0) {
+			return atan(x.negate(), mathContext).negate();
+		}
+
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
 
-		x = x.divide(sqrt(ONE.add(x.multiply(x, mc)), mc), mc);
+		if (x.compareTo(ONE) > 0) {
+			// atan(x) = pi/2 - atan(1/x)
+			BigDecimal result = halfPi(mc).subtract(atanReduced(ONE.divide(x, mc), mc), mc);
+			return round(result, mathContext);
+		}
 
-		BigDecimal result = asin(x, mc);
-		return round(result, mathContext);
+		return round(atanReduced(x, mc), mathContext);
+	}
+
+	/**
+	 * Calculates atan(x) for 0 &lt; x &lt;= 1 by halving the argument until the series converges fast enough.
+	 *
+	 * <pre>
+	 * atan(x) = 2 atan(x / (1 + sqrt(1 + x^2)))
+	 * </pre>
+	 */
+	private static BigDecimal atanReduced(BigDecimal x, MathContext mathContext) {
+		// higher precisions need more terms, which makes additional halving steps worthwhile
+		double maxLog10X = -Math.sqrt(mathContext.getPrecision()) / 16;
+
+		int doublingCount = 0;
+		while (Math.log10(x.doubleValue()) > maxLog10X) {
+			x = x.divide(ONE.add(sqrt(ONE.add(x.multiply(x, mathContext)), mathContext)), mathContext);
+			doublingCount++;
+		}
+
+		BigDecimal result = AtanCalculator.INSTANCE.calculate(x, mathContext);
+		return result.multiply(TWO.pow(doublingCount), mathContext);
 	}
 
 	/**
@@ -1497,9 +2428,9 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 			}
 		} else {
 			if (y.signum() > 0) { // x == 0 && y > 0
-				return pi(mc).divide(TWO, mathContext);
+				return round(halfPi(mc), mathContext);
 			} else if (y.signum() < 0) {  // x == 0 && y < 0
-				return pi(mc).divide(TWO, mathContext).negate();				
+				return round(halfPi(mc), mathContext).negate();
 			} else {
 				throw new ArithmeticException("Illegal atan2(y, x) for x = 0; y = 0");
 			}
@@ -1524,7 +2455,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 		}
 
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = cos(x, mc).divide(sin(x, mc), mc);
+		BigDecimal[] sinCos = sinCos(x, mc);
+		BigDecimal result = NewtonDivision.divide(sinCos[1], sinCos[0], mc);
 		return round(result, mathContext);
 	}
 
@@ -1541,7 +2473,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal acot(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = pi(mc).divide(TWO, mc).subtract(atan(x, mc));
+		BigDecimal result = halfPi(mc).subtract(atan(x, mc));
 		return round(result, mathContext);
 	}
 
@@ -1558,7 +2490,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal sinh(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = SinhCalculator.INSTANCE.calculate(x, mc);
+		BigDecimal result = sinhCoshKernel(x, mc)[0];
 		return round(result, mathContext);
 	}
 
@@ -1575,7 +2507,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal cosh(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
-		BigDecimal result = CoshCalculator.INSTANCE.calculate(x, mc);
+		BigDecimal result = sinhCoshKernel(x, mc)[1];
 		return round(result, mathContext);
 	}
 
@@ -1592,7 +2524,8 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal tanh(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = sinh(x, mc).divide(cosh(x, mc), mc);
+		BigDecimal[] sinhCosh = sinhCoshKernel(x, mc);
+		BigDecimal result = NewtonDivision.divide(sinhCosh[0], sinhCosh[1], mc);
 		return round(result, mathContext);
 	}
 
@@ -1609,10 +2542,73 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal coth(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = cosh(x, mc).divide(sinh(x, mc), mc);
+		BigDecimal[] sinhCosh = sinhCoshKernel(x, mc);
+		BigDecimal result = NewtonDivision.divide(sinhCosh[1], sinhCosh[0], mc);
 		return round(result, mathContext);
 	}
 
+	/**
+	 * Calculates the hyperbolic sine and the hyperbolic cosine of {@link BigDecimal} x.
+	 *
+	 * <p>This is faster than calling {@link #sinh(BigDecimal, MathContext)} and {@link #cosh(BigDecimal, MathContext)} separately,
+	 * because e<sup>|x|</sup> is calculated only once and both results are derived from it.</p>
+	 *
+	 * @param x the {@link BigDecimal} to calculate the hyperbolic sine and cosine for
+	 * @param mathContext the {@link MathContext} used for the results
+	 * @return an array containing the calculated hyperbolic sine (at index 0) and hyperbolic cosine (at index 1) {@link BigDecimal} with the precision specified in the <code>mathContext</code>
+	 * @throws UnsupportedOperationException if the {@link MathContext} has unlimited precision
+	 */
+	public static BigDecimal[] sinhCosh(BigDecimal x, MathContext mathContext) {
+		checkMathContext(mathContext);
+		MathContext mc = new MathContext(mathContext.getPrecision() + 4, mathContext.getRoundingMode());
+		BigDecimal[] result = sinhCoshKernel(x, mc);
+		return new BigDecimal[] { round(result[0], mathContext), round(result[1], mathContext) };
+	}
+
+	/**
+	 * Calculates sinh(x) and cosh(x) from a single exp(|x|).
+	 *
+	 * <p>For |x| &lt; 1/2 the results are derived from expm1(|x|) = exp(|x|) - 1
+	 * so that sinh(x) does not suffer from the cancellation in exp(x) - exp(-x).</p>
+	 */
+	private static BigDecimal[] sinhCoshKernel(BigDecimal x, MathContext mc) {
+		if (x.signum() == 0) {
+			return new BigDecimal[] { ZERO, ONE };
+		}
+
+		BigDecimal absX = x.abs();
+		BigDecimal sinh;
+		BigDecimal cosh;
+		if (absX.compareTo(ONE_HALF) >= 0) {
+			// sinh(x) = (e^x - e^-x) / 2 loses less than one digit for x >= 1/2
+			BigDecimal exp = exp(absX, mc);
+			BigDecimal inverseExp = ONE.divide(exp, mc);
+			sinh = exp.subtract(inverseExp).divide(TWO, mc);
+			cosh = exp.add(inverseExp).divide(TWO, mc);
+		} else {
+			int guardDigits = -exponent(absX);
+			if (guardDigits > mc.getPrecision()) {
+				// the series converges in a few terms, while expm1 would need more guard digits than the precision
+				sinh = SinhCalculator.INSTANCE.calculate(absX, mc);
+				cosh = sqrt(ONE.add(sinh.multiply(sinh, mc), mc), mc);
+			} else {
+				// exp(x) - 1 cancels roughly -exponent(x) digits
+				MathContext mcExp = new MathContext(mc.getPrecision() + guardDigits + 1, mc.getRoundingMode());
+				BigDecimal expm1 = exp(absX, mcExp).subtract(ONE, mc);
+				BigDecimal twoExp = TWO.multiply(ONE.add(expm1, mc));
+
+				// sinh(x) = expm1 * (expm1 + 2) / (2 * exp(x)) and cosh(x) = 1 + expm1^2 / (2 * exp(x))
+				sinh = expm1.multiply(expm1.add(TWO), mc).divide(twoExp, mc);
+				cosh = ONE.add(expm1.multiply(expm1, mc).divide(twoExp, mc), mc);
+			}
+		}
+
+		if (x.signum() < 0) {
+			sinh = sinh.negate();
+		}
+		return new BigDecimal[] { sinh, cosh };
+	}
+
 	/**
 	 * Calculates the arc hyperbolic sine (inverse hyperbolic sine) of {@link BigDecimal} x.
 	 * 
@@ -1699,7 +2695,7 @@ System.out.println(BigDecimalMath.roundWithTrailingZeroes(new BigDecimal("0.0000
 	public static BigDecimal toDegrees(BigDecimal x, MathContext mathContext) {
 		checkMathContext(mathContext);
 		MathContext mc = new MathContext(mathContext.getPrecision() + 6, mathContext.getRoundingMode());
-		BigDecimal result = x.multiply(ONE_HUNDRED_EIGHTY.divide(pi(mc), mc),  mc);
+		BigDecimal result = x.multiply(NewtonDivision.divide(ONE_HUNDRED_EIGHTY, pi(mc), mc),  mc);
 		return round(result, mathContext);
 	}
 
@@ -1,5 +1,6 @@
 package ch.obermuhlner.math.big;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -680,10 +681,10 @@ public class BigFloat implements Comparable<BigFloat>, Serializable {
 	 *
 	 * @return the resulting {@link BigFloat}
 	 *
-	 * @see BigDecimalMath#root(BigDecimal, BigDecimal, MathContext)
+	 * @see BigDecimalMath#root(BigDecimal, int, MathContext)
 	 */
 	public BigFloat root(int y) {
-		return root(context.valueOf(y));
+		return context.valueOf(BigDecimalMath.root(value, y, context.mathContext));
 	}
 
 	/**
@@ -994,6 +995,23 @@ public class BigFloat implements Comparable<BigFloat>, Serializable {
 		return value.toString();
 	}
 
+	/**
+	 * Writes the string representation of this {@link BigFloat} to an {@link Appendable}.
+	 *
+	 * <p>The result is the same as {@link #toString()}, but large values are written without creating a string of the full length.</p>
+	 *
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see BigDecimalMath#write(BigDecimal, Appendable)
+	 */
+	public void write(Appendable appendable) throws IOException {
+		if (isSpecial()) {
+			appendable.append(toString());
+		} else {
+			BigDecimalMath.write(value, appendable);
+		}
+	}
+
     protected boolean isSpecial() {
 		return false;
 	}
@@ -1122,6 +1140,11 @@ public class BigFloat implements Comparable<BigFloat>, Serializable {
 			return this;
 		}
 
+		@Override
+		public BigFloat root(int y) {
+			return this;
+		}
+
 		@Override
 		public int hashCode() {
 			return type.hashCode;
@@ -1,13 +1,14 @@
 package ch.obermuhlner.math.big;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+
+import ch.obermuhlner.math.big.internal.NewtonDivision;
 
 /**
  * A rational number represented as a quotient of two values.
@@ -689,7 +690,7 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * @return the {@link BigDecimal}
 	 */
 	public BigDecimal toBigDecimal(MathContext mc) {
-		return numerator.divide(denominator, mc);
+		return NewtonDivision.divide(numerator, denominator, mc);
 	}
 
 	@Override
@@ -752,6 +753,44 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		return toBigDecimal().toPlainString();
 	}
 
+	/**
+	 * Writes the string representation of this rational number to an {@link Appendable}.
+	 *
+	 * <p>The result is the same as {@link #toString()}, but large values are written without creating a string of the full length.</p>
+	 *
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see BigDecimalMath#write(BigDecimal, Appendable)
+	 */
+	public void write(Appendable appendable) throws IOException {
+		if (isZero()) {
+			appendable.append('0');
+		} else if (isIntegerInternal()) {
+			BigDecimalMath.write(numerator, appendable);
+		} else {
+			BigDecimalMath.write(toBigDecimal(), appendable);
+		}
+	}
+
+	/**
+	 * Writes the plain string representation of this rational number without any exponent to an {@link Appendable}.
+	 *
+	 * <p>The result is the same as {@link #toPlainString()}, but large values are written without creating a string of the full length.</p>
+	 *
+	 * @param appendable the {@link Appendable} (for example a {@link java.io.Writer}) to write to
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 * @see BigDecimalMath#writePlain(BigDecimal, Appendable)
+	 */
+	public void writePlain(Appendable appendable) throws IOException {
+		if (isZero()) {
+			appendable.append('0');
+		} else if (isIntegerInternal()) {
+			BigDecimalMath.writePlain(numerator, appendable);
+		} else {
+			BigDecimalMath.writePlain(toBigDecimal(), appendable);
+		}
+	}
+
 	/**
 	 * Returns the string representation of this rational number in the form "numerator/denominator".
 	 * 
@@ -1063,7 +1102,12 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 		return result;
 	}
 
-	private static List<BigRational> bernoulliCache = new ArrayList<>();
+	// B(0), B(2), B(4), ... are published as a whole array, so that reading cached values never locks
+	private static volatile BigRational[] bernoulliCache = { ONE };
+
+	// the last row of the Seidel-Entringer-Arnold triangle, guarded by bernoulliLock
+	private static BigInteger[] boustrophedonRow = { BigInteger.ONE };
+	private static final Object bernoulliLock = new Object();
 	
 	/**
 	 * Calculates the Bernoulli number for the specified index.
@@ -1072,6 +1116,10 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
 	 * <p>Note that <code>bernoulli(x)</code> for all odd x &gt; 1 returns 0</p>
 	 * <p>See: <a href="https://en.wikipedia.org/wiki/Bernoulli_number">Wikipedia: Bernoulli number</a></p>
 	 * 
+	 * <p>The Bernoulli numbers are calculated from the tangent numbers in a table that only uses integer additions
+	 * and grows as needed.
+	 * Already calculated Bernoulli numbers are read without locking.</p>
+	 * 
 	 * @param n the index of the Bernoulli number to be calculated (starting at 0)
 	 * @return the Bernoulli number for the specified index
 	 * @throws ArithmeticException if x is lesser than 0
@@ -1086,37 +1134,67 @@ public class BigRational extends Number implements Comparable<BigRational>, Seri
     		return ZERO;
     	}
     	
-    	synchronized (bernoulliCache) {
-    		int index = n / 2;
-    		
-    		if (bernoulliCache.size() <= index) {
-    			for (int i = bernoulliCache.size(); i <= index; i++) {
-    				BigRational b = calculateBernoulli(i * 2);
-					bernoulliCache.add(b);
-				}
-    		}
-    		
-    		return bernoulliCache.get(index);
+		int index = n / 2;
+		BigRational[] cache = bernoulliCache;
+		if (index < cache.length) {
+			return cache[index];
 		}
+		return extendBernoulliCache(index)[index];
     }
-    
-    private static BigRational calculateBernoulli(int n) {
-    	return IntStream.rangeClosed(0, n).parallel().mapToObj(k -> {
-            BigRational jSum = ZERO ;
-            BigRational bin = ONE ;
-            for(int j=0 ; j <= k ; j++) {
-                BigRational jPowN = valueOf(j).pow(n);
-                if (j % 2 == 0) {
-                	jSum = jSum.add(bin.multiply(jPowN)) ;
-                } else {
-                	jSum = jSum.subtract(bin.multiply(jPowN)) ;
-                }
-
-                bin = bin.multiply(valueOf(k-j).divide(valueOf(j+1)));
-            }
-            return jSum.divide(valueOf(k+1));
-    	}).reduce(ZERO, BigRational::add);
-    }
+
+	private static BigRational[] extendBernoulliCache(int index) {
+		synchronized (bernoulliLock) {
+			BigRational[] cache = bernoulliCache;
+			if (index < cache.length) {
+				return cache;
+			}
+
+			// grow by at least 50% to amortize the calculation
+			int length = (int) Math.min(Integer.MAX_VALUE, Math.max(index + 1L, cache.length + (long) (cache.length >> 1)));
+			BigRational[] result = Arrays.copyOf(cache, length);
+			for (int k = cache.length; k < length; k++) {
+				while (boustrophedonRow.length < 2 * k) {
+					boustrophedonRow = nextBoustrophedonRow(boustrophedonRow);
+				}
+				BigInteger tangentNumber = boustrophedonRow[2 * k - 1];
+				result[k] = calculateBernoulli(k, tangentNumber);
+			}
+
+			bernoulliCache = result;
+			return result;
+		}
+	}
+
+	/**
+	 * Calculates the next row of the Seidel-Entringer-Arnold triangle,
+	 * the last element of row n is the Euler zigzag number E(n).
+	 */
+	private static BigInteger[] nextBoustrophedonRow(BigInteger[] row) {
+		int n = row.length;
+		BigInteger[] result = new BigInteger[n + 1];
+		result[0] = BigInteger.ZERO;
+		for (int i = 1; i <= n; i++) {
+			result[i] = result[i - 1].add(row[n - i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculates B(2k) = (-1)^(k-1) * 2k * T(k) / (4^k * (4^k - 1)) from the tangent number T(k) = E(2k-1).
+	 */
+	private static BigRational calculateBernoulli(int k, BigInteger tangentNumber) {
+		BigInteger numerator = tangentNumber.multiply(BigInteger.valueOf(2L * k));
+		BigInteger powerOfFour = BigInteger.ONE.shiftLeft(2 * k);
+		BigInteger denominator = powerOfFour.multiply(powerOfFour.subtract(BigInteger.ONE));
+
+		BigInteger gcd = numerator.gcd(denominator);
+		numerator = numerator.divide(gcd);
+		denominator = denominator.divide(gcd);
+		if (k % 2 == 0) {
+			numerator = numerator.negate();
+		}
+		return valueOf(numerator, denominator);
+	}
 
 	@Override
 	public int intValue() {
@@ -378,6 +378,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.gamma(x, currentMathContext());
     }
 
+    /**
+     * Calculates the natural logarithm of the gamma function of the specified {@link BigDecimal} using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal}
+     * @return the natural logarithm of the gamma {@link BigDecimal} with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#logGamma(BigDecimal, MathContext)
+     */
+    public static BigDecimal logGamma(BigDecimal x) {
+        return BigDecimalMath.logGamma(x, currentMathContext());
+    }
+
     /**
      * Calculates the Bernoulli number for the specified index using the current {@link MathContext}.
      *
@@ -442,6 +454,20 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.root(x, n, currentMathContext());
     }
 
+    /**
+     * Calculates the n'th root of {@link BigDecimal} x for an integer n using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal} value to calculate the n'th root
+     * @param n the <code>int</code> defining the root
+     *
+     * @return the calculated n'th root of x with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#root(BigDecimal, int, MathContext)
+     */
+    public static BigDecimal root(BigDecimal x, int n) {
+        return BigDecimalMath.root(x, n, currentMathContext());
+    }
+
     /**
      * Calculates the natural logarithm of {@link BigDecimal} x using the current {@link MathContext}.
      *
@@ -546,6 +572,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.cos(x, currentMathContext());
     }
 
+    /**
+     * Calculates the sine (sinus) and the cosine (cosinus) of {@link BigDecimal} x using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal} to calculate the sine and cosine for
+     * @return an array containing the calculated sine (at index 0) and cosine (at index 1) {@link BigDecimal} with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#sinCos(BigDecimal, MathContext)
+     */
+    public static BigDecimal[] sinCos(BigDecimal x) {
+        return BigDecimalMath.sinCos(x, currentMathContext());
+    }
+
     /**
      * Calculates the arc cosine (inverted cosine) of {@link BigDecimal} x using the current {@link MathContext}.
      *
@@ -643,6 +681,18 @@ public class DefaultBigDecimalMath {
         return BigDecimalMath.cosh(x, currentMathContext());
     }
 
+    /**
+     * Calculates the hyperbolic sine and the hyperbolic cosine of {@link BigDecimal} x using the current {@link MathContext}.
+     *
+     * @param x the {@link BigDecimal} to calculate the hyperbolic sine and cosine for
+     * @return an array containing the calculated hyperbolic sine (at index 0) and hyperbolic cosine (at index 1) {@link BigDecimal} with the precision specified in the current {@link MathContext}
+     * @see #currentMathContext()
+     * @see BigDecimalMath#sinhCosh(BigDecimal, MathContext)
+     */
+    public static BigDecimal[] sinhCosh(BigDecimal x) {
+        return BigDecimalMath.sinhCosh(x, currentMathContext());
+    }
+
     /**
      * Calculates the hyperbolic tangens of {@link BigDecimal} x using the current {@link MathContext}.
      *
@@ -0,0 +1,46 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import ch.obermuhlner.math.big.BigRational;
+
+/**
+ * Calculates arc tangens using the Maclaurin series.
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Inverse_trigonometric_functions#Infinite_series">Wikipedia: Inverse trigonometric functions, infinite series</a></p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class AtanCalculator extends SeriesCalculator {
+
+	public static final AtanCalculator INSTANCE = new AtanCalculator();
+
+	private int n = 0;
+	private boolean negative = false;
+
+	private AtanCalculator() {
+		super(true);
+	}
+
+	@Override
+	protected BigRational getCurrentFactor() {
+		BigRational factor = BigRational.valueOf(1, 2 * n + 1);
+		if (negative) {
+			factor = factor.negate();
+		}
+		return factor;
+	}
+
+	@Override
+	protected void calculateNextFactor() {
+		n++;
+		negative = !negative;
+	}
+
+	@Override
+	protected PowerIterator createPowerIterator(BigDecimal x, MathContext mathContext) {
+		return new PowerTwoNPlusOneIterator(x, mathContext);
+	}
+}
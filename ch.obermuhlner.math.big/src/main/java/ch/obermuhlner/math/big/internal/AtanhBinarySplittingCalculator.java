@@ -0,0 +1,60 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+
+/**
+ * Calculates atanh of the reciprocal of an integer 1/q using binary splitting of the Maclaurin series.
+ *
+ * <pre>
+ * atanh(1/q) = sum[n=0..] 1 / ((2n+1) q<sup>2n+1</sup>)
+ * </pre>
+ *
+ * <p>The ratio between two consecutive terms is <code>(2n-1) / ((2n+1) q<sup>2</sup>)</code>,
+ * therefore all terms are combined as exact {@link BigInteger} products.
+ * This is efficient for small integers q, for example to calculate log(2) = 2 atanh(1/3).</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class AtanhBinarySplittingCalculator extends BinarySplittingCalculator {
+
+	private final BigInteger q;
+	private final BigInteger qSquared;
+
+	/**
+	 * Constructs a {@link AtanhBinarySplittingCalculator} for the argument 1/q.
+	 *
+	 * @param q the reciprocal of the argument
+	 */
+	public AtanhBinarySplittingCalculator(BigInteger q) {
+		this.q = q;
+		this.qSquared = q.multiply(q);
+	}
+
+	/**
+	 * Estimates the number of terms needed to calculate atanh(1/q) with the specified relative precision.
+	 *
+	 * @param q the reciprocal of the argument
+	 * @param precision the number of decimal digits
+	 * @return the number of terms (starting with the term 0)
+	 */
+	public static long estimateTermCount(int q, int precision) {
+		return (long) Math.ceil((precision + 2) / (2 * Math.log10(q))) + 1;
+	}
+
+	@Override
+	protected BigInteger getP(long n) {
+		if (n == 0) {
+			return BigInteger.ONE;
+		}
+		return BigInteger.valueOf(2 * n - 1);
+	}
+
+	@Override
+	protected BigInteger getQ(long n) {
+		if (n == 0) {
+			return q;
+		}
+		return BigInteger.valueOf(2 * n + 1).multiply(qSquared);
+	}
+}
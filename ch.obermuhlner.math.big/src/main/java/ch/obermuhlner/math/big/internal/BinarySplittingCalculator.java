@@ -0,0 +1,135 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+
+/**
+ * Utility class to calculate hypergeometric-like series efficiently using binary splitting.
+ *
+ * <p>The calculated series has the form:</p>
+ * <pre>
+ * S(n1, n2) = sum[n=n1..n2-1] a(n) * p(n1)/q(n1) * ... * p(n)/q(n)
+ * </pre>
+ *
+ * <p>Instead of calculating every term with full precision the partial products are combined
+ * in a product tree over {@link BigInteger} values.
+ * The result is returned as exact integers <code>P</code>, <code>Q</code> and <code>T</code>
+ * with <code>S(n1, n2) = T / Q</code>, so that only a single final division is needed.</p>
+ *
+ * <p>The two halves of the tree are evaluated with the {@link ProductTreeExecutor}.</p>
+ *
+ * <p>See <a href="https://www.ginac.de/CLN/binsplit.pdf">Haible, Papanikolaou: Fast multiprecision evaluation of series of rational numbers</a></p>
+ */
+public abstract class BinarySplittingCalculator {
+
+	private static final int SEQUENTIAL_THRESHOLD = 8;
+
+	/**
+	 * Calculates the series terms with indices in the range from <code>n1</code> (inclusive) to <code>n2</code> (exclusive).
+	 *
+	 * @param n1 the index of the first term (inclusive)
+	 * @param n2 the index of the last term (exclusive)
+	 * @return the calculated {@link Result}
+	 */
+	public Result calculate(long n1, long n2) {
+		if (n2 <= n1) {
+			throw new IllegalArgumentException("Illegal range: n1 = " + n1 + ", n2 = " + n2);
+		}
+
+		if (n2 - n1 <= SEQUENTIAL_THRESHOLD) {
+			return calculateSequential(n1, n2);
+		}
+
+		long mid = (n1 + n2) >>> 1;
+		return ProductTreeExecutor.evaluate(n2 - n1, () -> calculate(n1, mid), () -> calculate(mid, n2), Result::combine);
+	}
+
+	private Result calculateSequential(long n1, long n2) {
+		Result result = calculateTerm(n1);
+		for (long n = n1 + 1; n < n2; n++) {
+			result = result.combine(calculateTerm(n));
+		}
+		return result;
+	}
+
+	private Result calculateTerm(long n) {
+		BigInteger p = getP(n);
+		return new Result(p, getQ(n), getA(n).multiply(p));
+	}
+
+	/**
+	 * Returns the numerator p(n) of the ratio between the term n and the term n-1.
+	 *
+	 * @param n the index of the term
+	 * @return the numerator p(n)
+	 */
+	protected abstract BigInteger getP(long n);
+
+	/**
+	 * Returns the denominator q(n) of the ratio between the term n and the term n-1.
+	 *
+	 * @param n the index of the term
+	 * @return the denominator q(n)
+	 */
+	protected abstract BigInteger getQ(long n);
+
+	/**
+	 * Returns the additional integer factor a(n) of the term n.
+	 *
+	 * <p>The default implementation returns 1.</p>
+	 *
+	 * @param n the index of the term
+	 * @return the factor a(n)
+	 */
+	protected BigInteger getA(long n) {
+		return BigInteger.ONE;
+	}
+
+	/**
+	 * The exact integer result of a binary splitting calculation.
+	 */
+	public static class Result {
+		private final BigInteger p;
+		private final BigInteger q;
+		private final BigInteger t;
+
+		Result(BigInteger p, BigInteger q, BigInteger t) {
+			this.p = p;
+			this.q = q;
+			this.t = t;
+		}
+
+		/**
+		 * Returns the product of all p(n).
+		 *
+		 * @return the product P
+		 */
+		public BigInteger getP() {
+			return p;
+		}
+
+		/**
+		 * Returns the product of all q(n).
+		 *
+		 * @return the product Q
+		 */
+		public BigInteger getQ() {
+			return q;
+		}
+
+		/**
+		 * Returns the numerator T of the series sum <code>T / Q</code>.
+		 *
+		 * @return the numerator T
+		 */
+		public BigInteger getT() {
+			return t;
+		}
+
+		Result combine(Result right) {
+			return new Result(
+					p.multiply(right.p),
+					q.multiply(right.q),
+					t.multiply(right.q).add(p.multiply(right.t)));
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+
+/**
+ * Calculates the series of the Chudnovsky algorithm for pi using binary splitting.
+ *
+ * <pre>
+ * 426880 * sqrt(10005) / pi = sum[n=0..] (6n)! (13591409 + 545140134 n) / ((3n)! (n!)^3 (-640320)^(3n))
+ * </pre>
+ *
+ * <p>See <a href="https://en.wikipedia.org/wiki/Chudnovsky_algorithm">Wikipedia: Chudnovsky algorithm</a></p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ChudnovskyCalculator extends BinarySplittingCalculator {
+
+	public static final ChudnovskyCalculator INSTANCE = new ChudnovskyCalculator();
+
+	private static final BigInteger VALUE_13591409 = BigInteger.valueOf(13591409);
+	private static final BigInteger VALUE_545140134 = BigInteger.valueOf(545140134);
+	private static final BigInteger VALUE_640320_POW_3_DIVIDED_BY_24 = BigInteger.valueOf(640320).pow(3).divide(BigInteger.valueOf(24));
+
+	private ChudnovskyCalculator() {
+		// prevent instances
+	}
+
+	@Override
+	protected BigInteger getP(long n) {
+		if (n == 0) {
+			return BigInteger.ONE;
+		}
+		return BigInteger.valueOf(-(6 * n - 5)).multiply(BigInteger.valueOf(2 * n - 1)).multiply(BigInteger.valueOf(6 * n - 1));
+	}
+
+	@Override
+	protected BigInteger getQ(long n) {
+		if (n == 0) {
+			return BigInteger.ONE;
+		}
+		return BigInteger.valueOf(n).pow(3).multiply(VALUE_640320_POW_3_DIVIDED_BY_24);
+	}
+
+	@Override
+	protected BigInteger getA(long n) {
+		return VALUE_13591409.add(VALUE_545140134.multiply(BigInteger.valueOf(n)));
+	}
+}
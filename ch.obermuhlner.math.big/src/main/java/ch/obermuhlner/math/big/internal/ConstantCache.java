@@ -0,0 +1,229 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Caches the value of a mathematical constant with the highest precision calculated so far.
+ *
+ * <p>Reading a value with a precision that is already covered by the cache never locks.</p>
+ *
+ * <p>Concurrent requests for a higher precision are coalesced into a single calculation,
+ * which runs without holding any lock.
+ * Requests for a precision that is covered by the calculation in flight wait for its result,
+ * requests for an even higher precision start a new calculation.</p>
+ *
+ * <p>The cached value has more digits than the precision up to which it is known to round correctly,
+ * it is only rounded when it is returned, so that requests with different rounding modes are all rounded from the same value.
+ * Rounded copies for small precisions are kept, so that repeated requests
+ * do not need to round the full precision value again.</p>
+ *
+ * <p>If the constant has a name, it is sliced from the {@link ConstantStore#getEmbedded() embedded store} if that covers the precision.
+ * Otherwise, if a {@link ConstantStore#getDefault() default store} is configured,
+ * the constant is loaded from the store before it is calculated, and more precise calculated values are saved in the store.</p>
+ *
+ * <p>This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ConstantCache {
+
+	private static final int MAX_ROUNDED_PRECISION = 1000;
+	private static final int MAX_ROUNDED_COUNT = 32;
+
+	// additional digits calculated, so that the value can be rounded correctly to the requested precision with any rounding mode
+	private static final int GUARD_DIGITS = PowersOfTen.CHUNK_DIGITS;
+
+	private final String name;
+
+	private final Function<MathContext, BigDecimal> calculation;
+
+	private final AtomicReference<CachedValue> value = new AtomicReference<>();
+
+	private final AtomicReference<Calculation> calculationInFlight = new AtomicReference<>();
+
+	private final Map<MathContext, BigDecimal> roundedValues = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@link ConstantCache} using the specified calculation.
+	 *
+	 * <p>The calculation must return the constant with at least the precision of the specified {@link MathContext}.</p>
+	 *
+	 * @param calculation the function calculating the constant for a {@link MathContext}
+	 */
+	public ConstantCache(Function<MathContext, BigDecimal> calculation) {
+		this(null, calculation);
+	}
+
+	/**
+	 * Constructs a {@link ConstantCache} using the specified calculation,
+	 * that stores the constant under the specified name in the {@link ConstantStore#getDefault() default store}.
+	 *
+	 * <p>The calculation must return the constant with at least the precision of the specified {@link MathContext}.</p>
+	 *
+	 * @param name the name of the constant in the {@link ConstantStore}
+	 * @param calculation the function calculating the constant for a {@link MathContext}
+	 */
+	public ConstantCache(String name, Function<MathContext, BigDecimal> calculation) {
+		this.name = name;
+		this.calculation = calculation;
+	}
+
+	/**
+	 * Returns the constant rounded to the specified {@link MathContext}.
+	 *
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the constant with the precision specified in the <code>mathContext</code>
+	 */
+	public BigDecimal get(MathContext mathContext) {
+		BigDecimal result = getCached(mathContext);
+		if (result != null) {
+			return result;
+		}
+
+		while (true) {
+			Calculation inFlight = calculationInFlight.get();
+			if (inFlight != null && inFlight.precision >= mathContext.getPrecision()) {
+				if (inFlight.thread == Thread.currentThread()) {
+					// recursive request from within the calculation itself
+					return calculation.apply(mathContext).round(mathContext);
+				}
+				return round(inFlight.join(), mathContext);
+			}
+
+			Calculation ownCalculation = new Calculation(mathContext.getPrecision());
+			if (calculationInFlight.compareAndSet(inFlight, ownCalculation)) {
+				return round(ownCalculation.run(mathContext), mathContext);
+			}
+
+			result = getCached(mathContext);
+			if (result != null) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Removes the cached constant.
+	 */
+	public void clear() {
+		roundedValues.clear();
+		value.set(null);
+	}
+
+	private BigDecimal getCached(MathContext mathContext) {
+		BigDecimal rounded = roundedValues.get(mathContext);
+		if (rounded != null) {
+			return rounded;
+		}
+
+		CachedValue cached = value.get();
+		if (cached != null && mathContext.getPrecision() <= cached.precision) {
+			return round(cached, mathContext);
+		}
+		return null;
+	}
+
+	private BigDecimal round(CachedValue cached, MathContext mathContext) {
+		BigDecimal rounded = cached.value.round(mathContext);
+		if (mathContext.getPrecision() <= MAX_ROUNDED_PRECISION) {
+			if (roundedValues.size() >= MAX_ROUNDED_COUNT) {
+				roundedValues.clear();
+			}
+			roundedValues.put(mathContext, rounded);
+		}
+		return rounded;
+	}
+
+	private CachedValue calculate(MathContext mathContext) {
+		int precision = mathContext.getPrecision();
+		if (name != null) {
+			// the loaded slices are truncated after a guard chunk
+			BigDecimal result = ConstantStore.getEmbedded().load(name, precision);
+			if (result != null) {
+				return sliced(result, precision);
+			}
+
+			ConstantStore store = ConstantStore.getDefault();
+			if (store != null) {
+				result = store.load(name, precision);
+				if (result != null) {
+					return sliced(result, precision);
+				}
+				result = calculation.apply(new MathContext(precision + GUARD_DIGITS));
+				store.save(name, result);
+				return new CachedValue(result, precision);
+			}
+		}
+
+		return new CachedValue(calculation.apply(new MathContext(precision + GUARD_DIGITS)), precision);
+	}
+
+	private static CachedValue sliced(BigDecimal slice, int precision) {
+		return new CachedValue(slice, Math.max(precision, slice.precision() - PowersOfTen.CHUNK_DIGITS));
+	}
+
+	private void update(CachedValue result) {
+		CachedValue cached;
+		do {
+			cached = value.get();
+			if (cached != null && cached.precision >= result.precision) {
+				return;
+			}
+		} while (!value.compareAndSet(cached, result));
+	}
+
+	private static class CachedValue {
+		final BigDecimal value;
+		// the precision up to which the value can be rounded correctly
+		final int precision;
+
+		CachedValue(BigDecimal value, int precision) {
+			this.value = value;
+			this.precision = precision;
+		}
+	}
+
+	private class Calculation {
+		private final int precision;
+		private final Thread thread = Thread.currentThread();
+		private final CompletableFuture<CachedValue> future = new CompletableFuture<>();
+
+		Calculation(int precision) {
+			this.precision = precision;
+		}
+
+		CachedValue run(MathContext mathContext) {
+			try {
+				CachedValue result = calculate(mathContext);
+				update(result);
+				future.complete(result);
+				return result;
+			} catch (RuntimeException | Error ex) {
+				future.completeExceptionally(ex);
+				throw ex;
+			} finally {
+				calculationInFlight.compareAndSet(this, null);
+			}
+		}
+
+		CachedValue join() {
+			try {
+				return future.join();
+			} catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw ex;
+			}
+		}
+	}
+}
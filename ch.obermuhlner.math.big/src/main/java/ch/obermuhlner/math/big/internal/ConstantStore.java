@@ -0,0 +1,375 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Stores calculated constants in binary files of a directory, so that they can be reused by later runs.
+ *
+ * <p>Every file contains a list of values and a CRC32 checksum.
+ * The decimal digits of every value are stored in chunks of {@link PowersOfTen#CHUNK_DIGITS} digits,
+ * aligned to the most significant digit, so that the value can be sliced to any precision
+ * by converting only the leading chunks.</p>
+ *
+ * <p>The {@link #getEmbedded() embedded store} reads the files from resources in the jar,
+ * it contains the most common constants with several thousand digits and cannot be written.</p>
+ *
+ * <p>The files are memory-mapped when they are accessed for the first time,
+ * the checksum is verified once per mapping.
+ * Files are replaced atomically when a more precise value is stored.
+ * Missing, corrupt or unreadable files are ignored, failures to write a file are ignored as well,
+ * so that the constants are simply calculated again.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ConstantStore {
+
+	/**
+	 * Values with a lower precision are not stored, because calculating them is cheaper than reading a file.
+	 */
+	public static final int MIN_STORED_PRECISION = 100;
+
+	private static final int MAGIC = 0x42444353; // "BDCS"
+	private static final int VERSION = 1;
+	private static final int FILE_HEADER_SIZE = 4 + 4 + 4 + 8;
+	private static final int VALUE_HEADER_SIZE = 4 + 8 + 4 + 4;
+	private static final String FILE_SUFFIX = ".bin";
+
+	private static final String RESOURCE_DIRECTORY = "constants/";
+
+	private static final ConstantStore embeddedStore = new ConstantStore(null);
+
+	private static volatile ConstantStore defaultStore = null;
+
+	private final Path directory;
+
+	private final Map<String, ByteBuffer> buffers = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@link ConstantStore} using the specified directory.
+	 *
+	 * @param directory the existing directory containing the files
+	 */
+	public ConstantStore(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Sets the {@link ConstantStore} used by the constant caches.
+	 *
+	 * @param store the {@link ConstantStore}, or <code>null</code> to disable storing constants
+	 */
+	public static void setDefault(ConstantStore store) {
+		defaultStore = store;
+	}
+
+	/**
+	 * Returns the read-only {@link ConstantStore} with the constants embedded as resources.
+	 *
+	 * @return the embedded {@link ConstantStore}
+	 */
+	public static ConstantStore getEmbedded() {
+		return embeddedStore;
+	}
+
+	/**
+	 * Returns the {@link ConstantStore} used by the constant caches.
+	 *
+	 * @return the {@link ConstantStore}, or <code>null</code> if storing constants is disabled
+	 */
+	public static ConstantStore getDefault() {
+		return defaultStore;
+	}
+
+	/**
+	 * Loads the stored constant with at least the specified precision.
+	 *
+	 * <p>The returned value is sliced from the stored value and truncated after one additional chunk of {@link PowersOfTen#CHUNK_DIGITS} digits.
+	 * The additional digits are not correctly rounded, the value must be rounded to the requested precision before it is used.</p>
+	 *
+	 * @param name the name of the constant
+	 * @param precision the requested precision
+	 * @return the constant, or <code>null</code> if no constant with at least the requested precision is stored
+	 */
+	public BigDecimal load(String name, int precision) {
+		ByteBuffer buffer = map(name);
+		if (buffer == null || buffer.getInt(8) != 1 || buffer.getInt(FILE_HEADER_SIZE + 12) < precision) {
+			return null;
+		}
+		// one additional chunk, so that rounding the truncated value to the requested precision is correct
+		long chunkCount = ((long) precision + 2 * PowersOfTen.CHUNK_DIGITS - 1) / PowersOfTen.CHUNK_DIGITS;
+		return readValue(buffer, FILE_HEADER_SIZE, (int) Math.min(chunkCount, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Loads all stored values of a list of constants with their full precision.
+	 *
+	 * @param name the name of the list of constants
+	 * @return the unmodifiable list of constants, or <code>null</code> if no list is stored
+	 */
+	public List<BigDecimal> loadAll(String name) {
+		ByteBuffer buffer = map(name);
+		if (buffer == null) {
+			return null;
+		}
+
+		int count = buffer.getInt(8);
+		List<BigDecimal> result = new ArrayList<>(count);
+		int offset = FILE_HEADER_SIZE;
+		for (int i = 0; i < count; i++) {
+			result.add(readValue(buffer, offset, Integer.MAX_VALUE));
+			offset += VALUE_HEADER_SIZE + buffer.getInt(offset + 16) * 8;
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Stores the constant if it is more precise than the stored value.
+	 *
+	 * @param name the name of the constant
+	 * @param value the value of the constant
+	 */
+	public void save(String name, BigDecimal value) {
+		if (directory == null || value.precision() < MIN_STORED_PRECISION) {
+			return;
+		}
+		ByteBuffer buffer = map(name);
+		if (buffer != null && buffer.getInt(8) == 1 && buffer.getInt(FILE_HEADER_SIZE + 12) >= value.precision()) {
+			return;
+		}
+		write(name, Collections.singletonList(value));
+	}
+
+	/**
+	 * Stores the list of constants, replacing the stored list.
+	 *
+	 * @param name the name of the list of constants
+	 * @param values the values of the constants
+	 */
+	public void saveAll(String name, List<BigDecimal> values) {
+		if (directory == null) {
+			return;
+		}
+		int maxPrecision = 0;
+		for (BigDecimal value : values) {
+			maxPrecision = Math.max(maxPrecision, value.precision());
+		}
+		if (maxPrecision < MIN_STORED_PRECISION) {
+			return;
+		}
+		write(name, values);
+	}
+
+	private ByteBuffer map(String name) {
+		ByteBuffer buffer = buffers.get(name);
+		if (buffer != null) {
+			return buffer;
+		}
+
+		buffer = directory == null ? readResource(name) : mapFile(name);
+		if (buffer == null || !isValid(buffer)) {
+			return null;
+		}
+		buffers.put(name, buffer);
+		return buffer;
+	}
+
+	private static ByteBuffer readResource(String name) {
+		try (InputStream in = ConstantStore.class.getResourceAsStream(RESOURCE_DIRECTORY + name + FILE_SUFFIX)) {
+			if (in == null) {
+				return null;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] bytes = new byte[8192];
+			int n;
+			while ((n = in.read(bytes)) > 0) {
+				out.write(bytes, 0, n);
+			}
+			return ByteBuffer.wrap(out.toByteArray());
+		} catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private MappedByteBuffer mapFile(String name) {
+		Path path = directory.resolve(name + FILE_SUFFIX);
+		if (!Files.isRegularFile(path)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				// cannot be mapped into a single buffer
+				return null;
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException | UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	private static boolean isValid(ByteBuffer buffer) {
+		if (buffer.capacity() < FILE_HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			return false;
+		}
+
+		int count = buffer.getInt(8);
+		long offset = FILE_HEADER_SIZE;
+		for (int i = 0; i < count; i++) {
+			if (offset + VALUE_HEADER_SIZE > buffer.capacity()) {
+				return false;
+			}
+			int digitCount = buffer.getInt((int) offset + 12);
+			int chunkCount = buffer.getInt((int) offset + 16);
+			if (digitCount <= 0 || chunkCount != (digitCount + PowersOfTen.CHUNK_DIGITS - 1L) / PowersOfTen.CHUNK_DIGITS) {
+				return false;
+			}
+			offset += VALUE_HEADER_SIZE + chunkCount * 8L;
+		}
+		if (count < 0 || offset != buffer.capacity()) {
+			return false;
+		}
+
+		ByteBuffer data = buffer.duplicate();
+		data.position(FILE_HEADER_SIZE);
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		return crc.getValue() == buffer.getLong(12);
+	}
+
+	/**
+	 * Reads the value at the specified offset, sliced to the specified maximum number of leading chunks.
+	 */
+	private static BigDecimal readValue(ByteBuffer buffer, int offset, int maxChunkCount) {
+		int signum = buffer.getInt(offset);
+		long scale = buffer.getLong(offset + 4);
+		int digitCount = buffer.getInt(offset + 12);
+		int chunkCount = buffer.getInt(offset + 16);
+
+		int count = Math.min(chunkCount, maxChunkCount);
+		BigInteger unscaledValue = combineChunks(buffer, offset + VALUE_HEADER_SIZE, count);
+		if (count == chunkCount) {
+			// remove the padding of the last chunk
+			int padding = chunkCount * PowersOfTen.CHUNK_DIGITS - digitCount;
+			unscaledValue = unscaledValue.divide(BigInteger.TEN.pow(padding));
+			scale -= padding;
+		} else {
+			scale -= (long) (chunkCount - count) * PowersOfTen.CHUNK_DIGITS;
+		}
+
+		return new BigDecimal(signum < 0 ? unscaledValue.negate() : unscaledValue, (int) scale);
+	}
+
+	private static BigInteger combineChunks(ByteBuffer buffer, int offset, int count) {
+		if (count == 1) {
+			return BigInteger.valueOf(buffer.getLong(offset));
+		}
+
+		// value = upper * 10^(CHUNK_DIGITS * lowerCount) + lower
+		int k = PowersOfTen.blockIndex((long) count * PowersOfTen.CHUNK_DIGITS);
+		int lowerCount = 1 << k;
+		int upperCount = count - lowerCount;
+		BigInteger upper = combineChunks(buffer, offset, upperCount);
+		BigInteger lower = combineChunks(buffer, offset + upperCount * 8, lowerCount);
+		return upper.multiply(PowersOfTen.blockPower(k)).add(lower);
+	}
+
+	private static void splitChunks(BigInteger value, long[] chunks, int offset, int count) {
+		if (count == 1) {
+			chunks[offset] = value.longValue();
+			return;
+		}
+
+		int k = PowersOfTen.blockIndex((long) count * PowersOfTen.CHUNK_DIGITS);
+		int lowerCount = 1 << k;
+		int upperCount = count - lowerCount;
+		BigInteger[] divideAndRemainder = value.divideAndRemainder(PowersOfTen.blockPower(k));
+		splitChunks(divideAndRemainder[0], chunks, offset, upperCount);
+		splitChunks(divideAndRemainder[1], chunks, offset + upperCount, lowerCount);
+	}
+
+	private void write(String name, List<BigDecimal> values) {
+		long size = FILE_HEADER_SIZE;
+		List<long[]> allChunks = new ArrayList<>(values.size());
+		for (BigDecimal value : values) {
+			int digitCount = value.precision();
+			int chunkCount = (digitCount + PowersOfTen.CHUNK_DIGITS - 1) / PowersOfTen.CHUNK_DIGITS;
+			int padding = chunkCount * PowersOfTen.CHUNK_DIGITS - digitCount;
+			long[] chunks = new long[chunkCount];
+			splitChunks(value.unscaledValue().abs().multiply(BigInteger.TEN.pow(padding)), chunks, 0, chunkCount);
+			allChunks.add(chunks);
+			size += VALUE_HEADER_SIZE + chunkCount * 8L;
+		}
+		if (size > Integer.MAX_VALUE) {
+			return;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) size);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(values.size());
+		buffer.putLong(0);
+		for (int i = 0; i < values.size(); i++) {
+			BigDecimal value = values.get(i);
+			long[] chunks = allChunks.get(i);
+			int padding = chunks.length * PowersOfTen.CHUNK_DIGITS - value.precision();
+			buffer.putInt(value.signum());
+			buffer.putLong((long) value.scale() + padding);
+			buffer.putInt(value.precision());
+			buffer.putInt(chunks.length);
+			buffer.asLongBuffer().put(chunks);
+			buffer.position(buffer.position() + chunks.length * 8);
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), FILE_HEADER_SIZE, (int) size - FILE_HEADER_SIZE);
+		buffer.putLong(12, crc.getValue());
+		buffer.flip();
+
+		Path path = directory.resolve(name + FILE_SUFFIX);
+		Path tempPath = null;
+		try {
+			tempPath = Files.createTempFile(directory, name, ".tmp");
+			try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(true);
+			}
+			try {
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+			tempPath = null;
+		} catch (IOException ex) {
+			// the store is only an optimization, the constant will be calculated again
+		} finally {
+			if (tempPath != null) {
+				try {
+					Files.deleteIfExists(tempPath);
+				} catch (IOException ex) {
+					// ignore
+				}
+			}
+		}
+		buffers.remove(name);
+	}
+}
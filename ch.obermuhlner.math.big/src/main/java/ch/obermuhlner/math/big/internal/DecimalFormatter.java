@@ -0,0 +1,372 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Writes the decimal representation of {@link BigDecimal} values to an {@link Appendable},
+ * a {@link WritableByteChannel} or a memory-mapped {@link FileChannel}.
+ *
+ * <p>The unscaled value is split recursively by dividing with cached powers of ten (see {@link PowersOfTen}),
+ * the digits of the leaves are written directly into a small buffer that is flushed in fixed-size blocks,
+ * so that no string of the full length is ever created.</p>
+ *
+ * <p>If a {@link ForkJoinPool} is specified, parts of up to {@link #MAX_PARALLEL_BLOCK_DIGITS} digits
+ * are converted in parallel into a character array before they are written,
+ * so the additional memory stays bounded independent of the size of the value.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class DecimalFormatter {
+
+	/**
+	 * The maximum number of digits that are converted in parallel into a single character array.
+	 */
+	public static final int MAX_PARALLEL_BLOCK_DIGITS = 1 << 22;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final int MAP_WINDOW_SIZE = 1 << 26;
+
+	private static final int PARALLEL_THRESHOLD = 100_000;
+
+	private static final double LOG10_OF_TWO = 0.30102999566398120;
+
+	private DecimalFormatter() {
+		// prevent instances
+	}
+
+	/**
+	 * Writes the same representation as {@link BigDecimal#toString()} or {@link BigDecimal#toPlainString()} to an {@link Appendable}.
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param plain <code>true</code> to write the representation of {@link BigDecimal#toPlainString()}
+	 * @param appendable the {@link Appendable} to write to
+	 * @param pool the {@link ForkJoinPool} to convert the digits in parallel, or <code>null</code> to convert them sequentially
+	 * @throws IOException if the {@link Appendable} throws an {@link IOException}
+	 */
+	public static void write(BigDecimal value, boolean plain, Appendable appendable, ForkJoinPool pool) throws IOException {
+		write(value, plain, new AppendableDigitWriter(appendable), pool);
+	}
+
+	/**
+	 * Writes the same representation as {@link BigDecimal#toString()} or {@link BigDecimal#toPlainString()}
+	 * as ASCII characters to a {@link WritableByteChannel}.
+	 *
+	 * <p>The characters are written in blocks of a fixed size.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param plain <code>true</code> to write the representation of {@link BigDecimal#toPlainString()}
+	 * @param channel the blocking {@link WritableByteChannel} to write to
+	 * @param pool the {@link ForkJoinPool} to convert the digits in parallel, or <code>null</code> to convert them sequentially
+	 * @throws IOException if the {@link WritableByteChannel} throws an {@link IOException}
+	 */
+	public static void write(BigDecimal value, boolean plain, WritableByteChannel channel, ForkJoinPool pool) throws IOException {
+		write(value, plain, new ChannelDigitWriter(channel), pool);
+	}
+
+	/**
+	 * Writes the same representation as {@link BigDecimal#toString()} or {@link BigDecimal#toPlainString()}
+	 * as ASCII characters into the memory-mapped {@link FileChannel}, starting at its current position.
+	 *
+	 * <p>The file is mapped in windows of a fixed size, the position of the channel is moved to the end of the written characters.</p>
+	 *
+	 * @param value the {@link BigDecimal} to write
+	 * @param plain <code>true</code> to write the representation of {@link BigDecimal#toPlainString()}
+	 * @param channel the {@link FileChannel} opened for reading and writing
+	 * @param pool the {@link ForkJoinPool} to convert the digits in parallel, or <code>null</code> to convert them sequentially
+	 * @throws IOException if the {@link FileChannel} throws an {@link IOException}
+	 */
+	public static void writeMapped(BigDecimal value, boolean plain, FileChannel channel, ForkJoinPool pool) throws IOException {
+		long start = channel.position();
+		long end = start + length(value, plain);
+		write(value, plain, new MappedDigitWriter(channel, start, end), pool);
+		channel.position(end);
+	}
+
+	/**
+	 * Calculates the number of characters of the representation of {@link BigDecimal#toString()} or {@link BigDecimal#toPlainString()}
+	 * without converting the digits.
+	 *
+	 * @param value the {@link BigDecimal}
+	 * @param plain <code>true</code> for the representation of {@link BigDecimal#toPlainString()}
+	 * @return the number of characters
+	 */
+	public static long length(BigDecimal value, boolean plain) {
+		long scale = value.scale();
+		long digitCount = value.signum() == 0 ? 1 : value.precision();
+		long adjustedExponent = digitCount - 1 - scale;
+
+		long result = value.signum() < 0 ? 1 : 0;
+		if (plain && scale < 0) {
+			result += digitCount + (value.signum() != 0 ? -scale : 0);
+		} else if (isPositional(plain, scale, adjustedExponent)) {
+			if (scale > 0 && digitCount <= scale) {
+				result += 2 + scale;
+			} else {
+				result += digitCount + (scale > 0 ? 1 : 0);
+			}
+		} else {
+			result += digitCount + (digitCount > 1 ? 1 : 0);
+			if (adjustedExponent != 0) {
+				result += 1 + (adjustedExponent > 0 ? 1 : 0) + Long.toString(adjustedExponent).length();
+			}
+		}
+		return result;
+	}
+
+	private static boolean isPositional(boolean plain, long scale, long adjustedExponent) {
+		return scale == 0 || (scale > 0 && (plain || adjustedExponent >= -6));
+	}
+
+	private static void write(BigDecimal value, boolean plain, DigitWriter writer, ForkJoinPool pool) throws IOException {
+		BigInteger unscaledValue = value.unscaledValue().abs();
+		long scale = value.scale();
+		long digitCount = value.signum() == 0 ? 1 : value.precision();
+		long adjustedExponent = digitCount - 1 - scale;
+
+		try {
+			if (value.signum() < 0) {
+				writer.append('-');
+			}
+
+			if (plain && scale < 0) {
+				streamDigits(unscaledValue, 0, writer, pool);
+				if (value.signum() != 0) {
+					writer.appendZeroes(-scale);
+				}
+			} else if (isPositional(plain, scale, adjustedExponent)) {
+				if (scale > 0 && digitCount <= scale) {
+					writer.append('0');
+					writer.append('.');
+					writer.appendZeroes(scale - digitCount);
+				} else if (scale > 0) {
+					writer.dotPosition = digitCount - scale;
+				}
+				streamDigits(unscaledValue, 0, writer, pool);
+			} else {
+				writer.dotPosition = digitCount > 1 ? 1 : -1;
+				streamDigits(unscaledValue, 0, writer, pool);
+				if (adjustedExponent != 0) {
+					writer.append('E');
+					if (adjustedExponent > 0) {
+						writer.append('+');
+					}
+					writer.appendLong(adjustedExponent);
+				}
+			}
+
+			writer.flush();
+		} catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Writes the digits of the value, padded with leading zeroes to the specified number of digits (0 for no padding).
+	 */
+	private static void streamDigits(BigInteger value, long digits, DigitWriter writer, ForkJoinPool pool) {
+		if (value.bitLength() < 63) {
+			writer.appendDigits(value.longValue(), digits);
+			return;
+		}
+
+		long estimatedDigits = digits > 0 ? digits : (long) (value.bitLength() * LOG10_OF_TWO) + 1;
+		if (pool != null && estimatedDigits >= PARALLEL_THRESHOLD && estimatedDigits <= MAX_PARALLEL_BLOCK_DIGITS) {
+			char[] chars = new char[(int) estimatedDigits];
+			fillDigits(value, chars, 0, chars.length, pool);
+			int start = 0;
+			if (digits == 0) {
+				// the estimate may be one digit too large
+				while (chars[start] == '0') {
+					start++;
+				}
+			}
+			writer.appendChars(chars, start);
+			return;
+		}
+
+		int k = PowersOfTen.blockIndex(estimatedDigits);
+		long lowerDigits = PowersOfTen.blockDigits(k);
+		BigInteger[] divideAndRemainder = value.divideAndRemainder(PowersOfTen.blockPower(k));
+		BigInteger upper = divideAndRemainder[0];
+		BigInteger lower = divideAndRemainder[1];
+
+		if (digits == 0 && upper.signum() == 0) {
+			streamDigits(lower, 0, writer, pool);
+			return;
+		}
+
+		streamDigits(upper, digits > 0 ? digits - lowerDigits : 0, writer, pool);
+		streamDigits(lower, lowerDigits, writer, pool);
+	}
+
+	/**
+	 * Fills the digits of the value, padded with leading zeroes, into the specified range of the character array.
+	 */
+	private static Void fillDigits(BigInteger value, char[] chars, int offset, int length, ForkJoinPool pool) {
+		if (value.bitLength() < 63) {
+			long longValue = value.longValue();
+			for (int i = offset + length - 1; i >= offset; i--) {
+				chars[i] = (char) ('0' + longValue % 10);
+				longValue /= 10;
+			}
+			return null;
+		}
+
+		int k = PowersOfTen.blockIndex(length);
+		int lowerDigits = (int) PowersOfTen.blockDigits(k);
+		BigInteger[] divideAndRemainder = value.divideAndRemainder(PowersOfTen.blockPower(k));
+		int upperDigits = length - lowerDigits;
+
+		return ProductTreeExecutor.evaluate(
+				pool,
+				PARALLEL_THRESHOLD,
+				length,
+				() -> fillDigits(divideAndRemainder[0], chars, offset, upperDigits, pool),
+				() -> fillDigits(divideAndRemainder[1], chars, offset + upperDigits, lowerDigits, pool),
+				(ignored1, ignored2) -> null);
+	}
+
+	/**
+	 * Buffers the written characters and inserts the decimal point at the specified digit position.
+	 */
+	private static abstract class DigitWriter {
+		protected final char[] buffer = new char[BUFFER_SIZE];
+		protected int length;
+		private final char[] leaf = new char[PowersOfTen.CHUNK_DIGITS + 1];
+		private long digitCount;
+		long dotPosition = -1;
+
+		void appendDigits(long value, long digits) {
+			int start = leaf.length;
+			do {
+				leaf[--start] = (char) ('0' + value % 10);
+				value /= 10;
+			} while (value != 0);
+
+			if (digits > 0) {
+				appendZeroes(digits - (leaf.length - start));
+			}
+			for (int i = start; i < leaf.length; i++) {
+				appendDigit(leaf[i]);
+			}
+		}
+
+		void appendChars(char[] chars, int start) {
+			for (int i = start; i < chars.length; i++) {
+				appendDigit(chars[i]);
+			}
+		}
+
+		void appendZeroes(long count) {
+			for (long i = 0; i < count; i++) {
+				appendDigit('0');
+			}
+		}
+
+		void appendLong(long value) {
+			for (char c : Long.toString(value).toCharArray()) {
+				append(c);
+			}
+		}
+
+		private void appendDigit(char c) {
+			if (digitCount++ == dotPosition) {
+				append('.');
+			}
+			append(c);
+		}
+
+		void append(char c) {
+			if (length == buffer.length) {
+				flush();
+			}
+			buffer[length++] = c;
+		}
+
+		void flush() {
+			try {
+				flushBuffer();
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			length = 0;
+		}
+
+		protected abstract void flushBuffer() throws IOException;
+	}
+
+	private static class AppendableDigitWriter extends DigitWriter {
+		private final Appendable appendable;
+
+		AppendableDigitWriter(Appendable appendable) {
+			this.appendable = appendable;
+		}
+
+		@Override
+		protected void flushBuffer() throws IOException {
+			if (appendable instanceof Writer) {
+				((Writer) appendable).write(buffer, 0, length);
+			} else {
+				appendable.append(CharBuffer.wrap(buffer, 0, length));
+			}
+		}
+	}
+
+	private static class ChannelDigitWriter extends DigitWriter {
+		private final WritableByteChannel channel;
+		private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+		ChannelDigitWriter(WritableByteChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		protected void flushBuffer() throws IOException {
+			bytes.clear();
+			for (int i = 0; i < length; i++) {
+				bytes.put((byte) buffer[i]);
+			}
+			bytes.flip();
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+		}
+	}
+
+	private static class MappedDigitWriter extends DigitWriter {
+		private final FileChannel channel;
+		private final long end;
+		private long position;
+		private MappedByteBuffer window;
+
+		MappedDigitWriter(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void flushBuffer() throws IOException {
+			for (int i = 0; i < length; i++) {
+				if (window == null || !window.hasRemaining()) {
+					long size = Math.min(MAP_WINDOW_SIZE, end - position);
+					window = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+					position += size;
+				}
+				window.put((byte) buffer[i]);
+			}
+		}
+	}
+}
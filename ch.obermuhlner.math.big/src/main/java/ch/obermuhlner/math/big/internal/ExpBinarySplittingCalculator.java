@@ -0,0 +1,70 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+
+/**
+ * Calculates exp of a rational number p/q using binary splitting of the Maclaurin series.
+ *
+ * <pre>
+ * exp(p/q) = sum[n=0..] (p/q)<sup>n</sup> / n!
+ * </pre>
+ *
+ * <p>All terms are combined as exact {@link BigInteger} products, therefore this is efficient
+ * if p and q are small integers (for example to calculate e = exp(1)).</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ExpBinarySplittingCalculator extends BinarySplittingCalculator {
+
+	private final BigInteger numerator;
+	private final BigInteger denominator;
+
+	/**
+	 * Constructs a {@link ExpBinarySplittingCalculator} for the rational argument numerator/denominator.
+	 *
+	 * @param numerator the numerator of the argument
+	 * @param denominator the denominator of the argument
+	 */
+	public ExpBinarySplittingCalculator(BigInteger numerator, BigInteger denominator) {
+		this.numerator = numerator;
+		this.denominator = denominator;
+	}
+
+	/**
+	 * Estimates the number of terms needed to calculate exp(x) with the specified relative precision.
+	 *
+	 * @param x the positive argument as <code>double</code>
+	 * @param precision the number of decimal digits
+	 * @return the number of terms (starting with the term 0)
+	 */
+	public static long estimateTermCount(double x, int precision) {
+		// the result has roughly x * log10(e) digits before the decimal point
+		double log10Error = x / Math.log(10) - precision - 2;
+		double log10X = Math.log10(x);
+
+		long n = 0;
+		double log10Term = 0;
+		while (n < 2 * x || log10Term > log10Error) {
+			n++;
+			log10Term += log10X - Math.log10(n);
+		}
+		return n + 1;
+	}
+
+	@Override
+	protected BigInteger getP(long n) {
+		if (n == 0) {
+			return BigInteger.ONE;
+		}
+		return numerator;
+	}
+
+	@Override
+	protected BigInteger getQ(long n) {
+		if (n == 0) {
+			return BigInteger.ONE;
+		}
+		return denominator.multiply(BigInteger.valueOf(n));
+	}
+}
@@ -0,0 +1,255 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Calculates the factorial of integer values using the prime swing algorithm of Peter Luschny.
+ *
+ * <pre>
+ * n! = (floor(n/2)!)<sup>2</sup> * swing(n)
+ * </pre>
+ *
+ * <p>The swing number <code>swing(n) = n! / (floor(n/2)!)<sup>2</sup></code> is calculated from its prime factorization,
+ * the exponent of every prime p is the number of odd values in floor(n/p), floor(n/p<sup>2</sup>), ...
+ * All factors of 2 are removed from the recursion and applied as a single shift at the end.</p>
+ *
+ * <p>The primes are stored in a sieve that grows as needed and is read without locking.
+ * Large factorials are kept in a bounded cache that is read without locking,
+ * a factorial close above a cached value is calculated by multiplying the remaining range.</p>
+ *
+ * <p>The independent parts of the product trees are evaluated with the {@link ProductTreeExecutor}.</p>
+ *
+ * <p>See <a href="http://www.luschny.de/math/factorial/FastFactorialFunctions.htm">Luschny: Fast Factorial Functions</a></p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class FactorialCalculator {
+
+	private static final int MIN_CACHED_N = 1000;
+	private static final int MAX_CACHED_N = 200000;
+	private static final int MAX_CACHED_COUNT = 16;
+	private static final int MAX_RANGE_PRODUCT_DIVISOR = 16;
+
+	private static final int SEQUENTIAL_PRODUCT_THRESHOLD = 32;
+
+	private static final int SMALL_ODD_FACTORIAL_THRESHOLD = 24;
+
+	private static final ConcurrentNavigableMap<Integer, BigInteger> factorialCache = new ConcurrentSkipListMap<>();
+
+	private static volatile int[] primes = new int[0];
+	private static volatile int primesLimit = 1;
+
+	private FactorialCalculator() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates the factorial of n.
+	 *
+	 * @param n the non-negative integer value
+	 * @return the factorial n!
+	 */
+	public static BigInteger factorial(int n) {
+		if (n < MIN_CACHED_N || n > MAX_CACHED_N) {
+			return primeSwingFactorial(n);
+		}
+
+		BigInteger cached = factorialCache.get(n);
+		if (cached != null) {
+			return cached;
+		}
+
+		BigInteger result;
+		Map.Entry<Integer, BigInteger> floor = factorialCache.floorEntry(n);
+		if (floor != null && n - floor.getKey() <= n / MAX_RANGE_PRODUCT_DIVISOR) {
+			result = floor.getValue().multiply(product(floor.getKey() + 1, n));
+		} else {
+			result = primeSwingFactorial(n);
+		}
+
+		if (factorialCache.size() >= MAX_CACHED_COUNT) {
+			factorialCache.clear();
+		}
+		factorialCache.put(n, result);
+		return result;
+	}
+
+	/**
+	 * Calculates the product of all integers in the range from n1 to n2 (both inclusive).
+	 *
+	 * <p>The factors are multiplied in a balanced product tree,
+	 * so that the large multiplications operate on numbers of similar size.</p>
+	 *
+	 * @param n1 the first factor
+	 * @param n2 the last factor
+	 * @return the product n1 * (n1 + 1) * ... * n2, or 1 if n2 &lt; n1
+	 */
+	public static BigInteger product(long n1, long n2) {
+		if (n2 < n1) {
+			return BigInteger.ONE;
+		}
+		if (n2 - n1 < SEQUENTIAL_PRODUCT_THRESHOLD) {
+			return productLoop(n1, n2);
+		}
+		long mid = (n1 + n2) >>> 1;
+		return ProductTreeExecutor.evaluate(n2 - n1, () -> product(n1, mid), () -> product(mid + 1, n2), BigInteger::multiply);
+	}
+
+	private static BigInteger productLoop(long n1, long n2) {
+		long limit = Long.MAX_VALUE / n2;
+		long accu = 1;
+		BigInteger result = BigInteger.ONE;
+		for (long i = n1; i <= n2; i++) {
+			if (accu <= limit) {
+				accu *= i;
+			} else {
+				result = result.multiply(BigInteger.valueOf(accu));
+				accu = i;
+			}
+		}
+		return result.multiply(BigInteger.valueOf(accu));
+	}
+
+	private static BigInteger primeSwingFactorial(int n) {
+		if (n < 2) {
+			return BigInteger.ONE;
+		}
+		int[] primeTable = getPrimes(n);
+		return oddFactorial(n, primeTable).shiftLeft(n - Integer.bitCount(n));
+	}
+
+	/**
+	 * Calculates the odd part of n! (n! without all factors of 2).
+	 */
+	private static BigInteger oddFactorial(int n, int[] primeTable) {
+		if (n <= SMALL_ODD_FACTORIAL_THRESHOLD) {
+			long result = 1;
+			for (int i = 3; i <= n; i += 2) {
+				result *= i >> Integer.numberOfTrailingZeros(i);
+			}
+			for (int i = 6; i <= n; i += 2) {
+				result *= i >> Integer.numberOfTrailingZeros(i);
+			}
+			return BigInteger.valueOf(result);
+		}
+
+		return ProductTreeExecutor.evaluate(
+				n,
+				() -> oddFactorial(n / 2, primeTable).pow(2),
+				() -> oddSwing(n, primeTable),
+				BigInteger::multiply);
+	}
+
+	/**
+	 * Calculates the odd part of swing(n) from its prime factorization.
+	 */
+	private static BigInteger oddSwing(int n, int[] primeTable) {
+		int sqrtN = (int) Math.sqrt(n);
+		long[] factors = new long[primeTable.length];
+		int count = 0;
+
+		// primeTable[0] == 2 is skipped
+		for (int i = 1; i < primeTable.length; i++) {
+			int prime = primeTable[i];
+			if (prime > n) {
+				break;
+			}
+
+			if (prime > n / 2) {
+				// every prime in (n/2, n] has the exponent 1
+				factors[count++] = prime;
+			} else if (prime > sqrtN) {
+				// primes in (sqrt(n), n/2] have the exponent floor(n/p) mod 2
+				if (((n / prime) & 1) == 1) {
+					factors[count++] = prime;
+				}
+			} else {
+				long power = 1;
+				int q = n;
+				while ((q /= prime) > 0) {
+					if ((q & 1) == 1) {
+						power *= prime;
+					}
+				}
+				if (power > 1) {
+					factors[count++] = power;
+				}
+			}
+		}
+
+		return productOf(factors, 0, count);
+	}
+
+	private static BigInteger productOf(long[] factors, int start, int end) {
+		int length = end - start;
+		if (length <= 0) {
+			return BigInteger.ONE;
+		}
+		if (length < SEQUENTIAL_PRODUCT_THRESHOLD) {
+			BigInteger result = BigInteger.ONE;
+			long accu = 1;
+			for (int i = start; i < end; i++) {
+				long factor = factors[i];
+				if (accu <= Long.MAX_VALUE / factor) {
+					accu *= factor;
+				} else {
+					result = result.multiply(BigInteger.valueOf(accu));
+					accu = factor;
+				}
+			}
+			return result.multiply(BigInteger.valueOf(accu));
+		}
+
+		int mid = (start + end) >>> 1;
+		return ProductTreeExecutor.evaluate(length, () -> productOf(factors, start, mid), () -> productOf(factors, mid, end), BigInteger::multiply);
+	}
+
+	/**
+	 * Returns all primes up to at least n, in ascending order.
+	 */
+	private static int[] getPrimes(int n) {
+		if (n <= primesLimit) {
+			return primes;
+		}
+		return extendPrimes(n);
+	}
+
+	private static synchronized int[] extendPrimes(int n) {
+		if (n <= primesLimit) {
+			return primes;
+		}
+
+		// grow by at least 50% to amortize the sieving
+		int limit = (int) Math.min(Integer.MAX_VALUE - 1L, Math.max(n, primesLimit + (long) (primesLimit >> 1)));
+		int[] sieved = sieve(limit);
+		primes = sieved;
+		primesLimit = limit;
+		return sieved;
+	}
+
+	private static int[] sieve(int limit) {
+		// composite[i] marks the odd number 2i+1
+		boolean[] composite = new boolean[limit / 2 + 1];
+		int[] result = new int[16];
+		int count = 0;
+		result[count++] = 2;
+		for (int i = 1; 2L * i + 1 <= limit; i++) {
+			if (!composite[i]) {
+				int prime = 2 * i + 1;
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count * 2);
+				}
+				result[count++] = prime;
+				for (long j = (long) prime * prime / 2; j < composite.length; j += prime) {
+					composite[(int) j] = true;
+				}
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+}
@@ -0,0 +1,217 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Divides {@link BigDecimal}s at high precision by multiplying with the reciprocal of the divisor.
+ *
+ * <p>The reciprocal 1/d is calculated with the Newton iteration
+ * y<sub>k+1</sub> = y<sub>k</sub> + y<sub>k</sub> * (1 - d * y<sub>k</sub>) in binary fixed point arithmetic,
+ * which doubles the number of correct bits in every step and only needs multiplications and shifts.
+ * The quotient is calculated with a few more digits than the precision.
+ * Only if these digits are close to a rounding boundary, the quotient is corrected by the exact remainder,
+ * so that the results are always rounded exactly like {@link BigDecimal#divide(BigDecimal, MathContext)}.</p>
+ *
+ * <p>Calculating the reciprocal costs more than a single {@link BigDecimal#divide(BigDecimal, MathContext)}
+ * below {@link #UNCACHED_PRECISION_THRESHOLD}, but the reciprocals of recently used divisors are cached
+ * and every further division by the same divisor needs just a single multiplication.
+ * Therefore the reciprocal is only calculated when a divisor is used for the second time.
+ * Divisors and precisions above {@link #MAX_CACHED_DIGITS} are never cached.</p>
+ *
+ * <p>Small divisors and low precisions are always divided by {@link BigDecimal#divide(BigDecimal, MathContext)},
+ * which is faster in this case.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class NewtonDivision {
+
+	/**
+	 * The precision and the number of digits of the divisor above which a cached reciprocal is used.
+	 */
+	public static final int PRECISION_THRESHOLD = 1000;
+
+	/**
+	 * The precision above which the reciprocal is faster than {@link BigDecimal#divide(BigDecimal, MathContext)} even if it is not cached.
+	 */
+	public static final int UNCACHED_PRECISION_THRESHOLD = 50_000;
+
+	/**
+	 * The maximum number of digits of the divisor and the precision for which the reciprocal is cached.
+	 */
+	public static final int MAX_CACHED_DIGITS = 100_000;
+
+	private static final int SEED_BITS = 64;
+	private static final int GUARD_BITS = 32;
+	private static final int MAX_CACHED_RECIPROCALS = 8;
+
+	// the quotient is calculated with 4 more digits, rounding boundaries are multiples of 5000 units
+	private static final int ROUNDING_DIGITS = 4;
+	private static final BigInteger HALF_ROUNDING_UNIT = BigInteger.valueOf(5000);
+	private static final int MAX_QUOTIENT_ERROR = 8;
+
+	private static final Reciprocal NOT_CALCULATED = new Reciprocal(null, 0);
+
+	private static final Map<BigInteger, Reciprocal> reciprocals = new ConcurrentHashMap<>();
+
+	private NewtonDivision() {
+		// prevent instances
+	}
+
+	/**
+	 * Calculates the reciprocal of the specified {@link BigDecimal}.
+	 *
+	 * @param x the {@link BigDecimal}
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the reciprocal {@link BigDecimal}, equal to <code>BigDecimal.ONE.divide(x, mathContext)</code>
+	 */
+	public static BigDecimal reciprocal(BigDecimal x, MathContext mathContext) {
+		return divide(BigDecimal.ONE, x, mathContext);
+	}
+
+	/**
+	 * Divides the dividend by the divisor.
+	 *
+	 * @param dividend the {@link BigDecimal} dividend
+	 * @param divisor the {@link BigDecimal} divisor
+	 * @param mathContext the {@link MathContext} used for the result
+	 * @return the quotient {@link BigDecimal}, equal to <code>dividend.divide(divisor, mathContext)</code>
+	 */
+	public static BigDecimal divide(BigDecimal dividend, BigDecimal divisor, MathContext mathContext) {
+		if (mathContext.getPrecision() < PRECISION_THRESHOLD || divisor.precision() < PRECISION_THRESHOLD || dividend.signum() == 0) {
+			return dividend.divide(divisor, mathContext);
+		}
+
+		// a * 10^k / b has at least ROUNDING_DIGITS more digits than the precision
+		int k = Math.max(0, mathContext.getPrecision() + ROUNDING_DIGITS + divisor.precision() - dividend.precision());
+		BigInteger a = dividend.unscaledValue().abs();
+		if (k > 0) {
+			a = a.multiply(BigInteger.TEN.pow(k));
+		}
+		BigInteger b = divisor.unscaledValue().abs();
+
+		boolean alwaysCalculate = mathContext.getPrecision() >= UNCACHED_PRECISION_THRESHOLD;
+		boolean cached = mathContext.getPrecision() <= MAX_CACHED_DIGITS && divisor.precision() <= MAX_CACHED_DIGITS;
+		if (!alwaysCalculate && !cached) {
+			return dividend.divide(divisor, mathContext);
+		}
+
+		BigInteger quotient = approximateQuotient(a, b, alwaysCalculate, cached);
+		if (quotient == null) {
+			return dividend.divide(divisor, mathContext);
+		}
+
+		int roundingDigits = quotient.mod(HALF_ROUNDING_UNIT).intValue();
+		if (roundingDigits < MAX_QUOTIENT_ERROR + 1 || roundingDigits > HALF_ROUNDING_UNIT.intValue() - MAX_QUOTIENT_ERROR - 1) {
+			// the quotient is close to a rounding boundary or might be exact, only the remainder can tell
+			BigInteger[] quotientAndRemainder = correctQuotient(a, b, quotient);
+			if (quotientAndRemainder[1].signum() == 0) {
+				// the exact quotient needs the preferred scale of BigDecimal
+				return dividend.divide(divisor, mathContext);
+			}
+			quotient = quotientAndRemainder[0];
+		}
+
+		// the appended digit 1 tells the rounding that the quotient is larger than the truncated digits
+		quotient = quotient.multiply(BigInteger.TEN).add(BigInteger.ONE);
+		if (dividend.signum() != divisor.signum()) {
+			quotient = quotient.negate();
+		}
+		int scale = Math.toIntExact((long) dividend.scale() - divisor.scale() + k + 1);
+		return new BigDecimal(quotient, scale).round(mathContext);
+	}
+
+	/**
+	 * Calculates a / b with an error of at most {@link #MAX_QUOTIENT_ERROR} units,
+	 * or returns <code>null</code> if the divisor is used for the first time and should be divided directly.
+	 */
+	private static BigInteger approximateQuotient(BigInteger a, BigInteger b, boolean alwaysCalculate, boolean cached) {
+		int divisorBits = b.bitLength();
+		int quotientBits = a.bitLength() - divisorBits + 1;
+		if (quotientBits <= 0) {
+			return BigInteger.ZERO;
+		}
+
+		// y = 2^(divisorBits + precision) / b
+		int precision = quotientBits + GUARD_BITS;
+		BigInteger y = cached ? cachedReciprocal(b, precision, alwaysCalculate) : calculateReciprocal(b, precision);
+		if (y == null) {
+			return null;
+		}
+
+		// the lower bits of a do not contribute to the quotient
+		int shift = Math.max(0, a.bitLength() - precision - GUARD_BITS);
+		return a.shiftRight(shift).multiply(y).shiftRight(divisorBits + precision - shift);
+	}
+
+	private static BigInteger[] correctQuotient(BigInteger a, BigInteger b, BigInteger quotient) {
+		BigInteger remainder = a.subtract(quotient.multiply(b));
+		while (remainder.signum() < 0) {
+			quotient = quotient.subtract(BigInteger.ONE);
+			remainder = remainder.add(b);
+		}
+		while (remainder.compareTo(b) >= 0) {
+			quotient = quotient.add(BigInteger.ONE);
+			remainder = remainder.subtract(b);
+		}
+		return new BigInteger[] { quotient, remainder };
+	}
+
+	private static BigInteger cachedReciprocal(BigInteger b, int precision, boolean alwaysCalculate) {
+		Reciprocal cached = reciprocals.get(b);
+		if (cached == null && !alwaysCalculate) {
+			if (reciprocals.size() >= MAX_CACHED_RECIPROCALS) {
+				reciprocals.clear();
+			}
+			cached = reciprocals.putIfAbsent(b, NOT_CALCULATED);
+			if (cached == null) {
+				return null;
+			}
+		}
+		if (cached != null && cached.precision >= precision) {
+			return cached.value.shiftRight(cached.precision - precision);
+		}
+
+		BigInteger value = calculateReciprocal(b, precision);
+		if (reciprocals.size() >= MAX_CACHED_RECIPROCALS && !reciprocals.containsKey(b)) {
+			reciprocals.clear();
+		}
+		reciprocals.put(b, new Reciprocal(value, precision));
+		return value;
+	}
+
+	private static BigInteger calculateReciprocal(BigInteger b, int precision) {
+		// b = d * 2^divisorBits with 1/2 <= d < 1, therefore 1 < 1/d <= 2
+
+		// y = 1/d as fixed point number with q fractional bits
+		int divisorBits = b.bitLength();
+		int q = Math.min(SEED_BITS, precision);
+		BigInteger y = BigInteger.ONE.shiftLeft(2 * q).divide(shiftLeft(b, q - divisorBits));
+		while (q < precision) {
+			int nextQ = Math.min(2 * q - GUARD_BITS / 4, precision);
+			BigInteger d = shiftLeft(b, nextQ - divisorBits);
+			BigInteger error = BigInteger.ONE.shiftLeft(nextQ).subtract(d.multiply(y).shiftRight(q));
+			y = y.shiftLeft(nextQ - q).add(y.multiply(error).shiftRight(q));
+			q = nextQ;
+		}
+		return y;
+	}
+
+	private static BigInteger shiftLeft(BigInteger value, int n) {
+		return n >= 0 ? value.shiftLeft(n) : value.shiftRight(-n);
+	}
+
+	private static class Reciprocal {
+		final BigInteger value;
+		final int precision;
+
+		Reciprocal(BigInteger value, int precision) {
+			this.value = value;
+			this.precision = precision;
+		}
+	}
+}
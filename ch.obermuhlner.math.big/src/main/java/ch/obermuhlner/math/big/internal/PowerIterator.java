@@ -25,4 +25,13 @@ public interface PowerIterator {
 	 * Calculates the next power.
 	 */
 	void calculateNextPower();
+
+	/**
+	 * Returns the constant factor between two consecutive powers.
+	 *
+	 * <p>For example x<sup>2</sup> for the powers x<sup>2*n+1</sup>.</p>
+	 *
+	 * @return the factor between two consecutive powers
+	 */
+	BigDecimal getPowerStep();
 }
\ No newline at end of file
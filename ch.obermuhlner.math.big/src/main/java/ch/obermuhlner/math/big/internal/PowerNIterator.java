@@ -30,4 +30,9 @@ public class PowerNIterator implements PowerIterator {
 	public void calculateNextPower() {
 		powerOfX = powerOfX.multiply(x, mathContext);
 	}
+
+	@Override
+	public BigDecimal getPowerStep() {
+		return x;
+	}
 }
\ No newline at end of file
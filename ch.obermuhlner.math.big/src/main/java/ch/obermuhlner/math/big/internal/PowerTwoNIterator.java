@@ -30,4 +30,9 @@ public class PowerTwoNIterator implements PowerIterator {
 	public void calculateNextPower() {
 		powerOfX = powerOfX.multiply(xPowerTwo, mathContext);
 	}
+
+	@Override
+	public BigDecimal getPowerStep() {
+		return xPowerTwo;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.lang.ref.SoftReference;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the powers of ten used to split and join decimal digit sequences in divide-and-conquer conversions.
+ *
+ * <p>A decimal number with <code>n</code> digits is split at the largest block of
+ * <code>{@link #CHUNK_DIGITS} * 2<sup>k</sup></code> digits that is shorter than <code>n</code>,
+ * so that only the powers <code>10<sup>{@link #CHUNK_DIGITS} * 2<sup>k</sup></sup></code> are needed.
+ * Every power is calculated by squaring the previous one.</p>
+ *
+ * <p>Cached powers are read without locking.
+ * The powers up to {@link #MAX_STRONGLY_CACHED_DIGITS} digits are kept,
+ * larger powers are only softly referenced, so that the garbage collector can release them
+ * after very large numbers have been converted.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class PowersOfTen {
+
+	/**
+	 * The number of decimal digits that always fit into a <code>long</code>.
+	 */
+	public static final int CHUNK_DIGITS = 18;
+
+	/**
+	 * The value <code>10<sup>{@link #CHUNK_DIGITS}</sup></code>.
+	 */
+	public static final long CHUNK_POWER = 1_000_000_000_000_000_000L;
+
+	private static final int MAX_STRONGLY_CACHED_INDEX = 14;
+
+	/**
+	 * The maximum number of digits of the powers that are kept in the cache.
+	 */
+	public static final long MAX_STRONGLY_CACHED_DIGITS = blockDigits(MAX_STRONGLY_CACHED_INDEX);
+
+	private static volatile BigInteger[] powers = { BigInteger.valueOf(CHUNK_POWER) };
+
+	private static final AtomicReferenceArray<SoftReference<BigInteger>> largePowers = new AtomicReferenceArray<>(64);
+
+	private PowersOfTen() {
+		// prevent instances
+	}
+
+	/**
+	 * Returns the index k of the largest block of <code>{@link #CHUNK_DIGITS} * 2<sup>k</sup></code> digits
+	 * that is shorter than the specified number of digits.
+	 *
+	 * @param digits the number of digits, must be larger than {@link #CHUNK_DIGITS}
+	 * @return the index k of the block
+	 */
+	public static int blockIndex(long digits) {
+		return 63 - Long.numberOfLeadingZeros((digits - 1) / CHUNK_DIGITS);
+	}
+
+	/**
+	 * Returns the number of digits of the block with the specified index.
+	 *
+	 * @param k the index of the block
+	 * @return <code>{@link #CHUNK_DIGITS} * 2<sup>k</sup></code>
+	 */
+	public static long blockDigits(int k) {
+		return (long) CHUNK_DIGITS << k;
+	}
+
+	/**
+	 * Returns the power of ten for the block with the specified index.
+	 *
+	 * @param k the index of the block
+	 * @return <code>10<sup>{@link #CHUNK_DIGITS} * 2<sup>k</sup></sup></code>
+	 */
+	public static BigInteger blockPower(int k) {
+		BigInteger[] cached = powers;
+		if (k < cached.length) {
+			return cached[k];
+		}
+		if (k <= MAX_STRONGLY_CACHED_INDEX) {
+			return extendPowers(k)[k];
+		}
+
+		SoftReference<BigInteger> reference = largePowers.get(k);
+		BigInteger result = reference != null ? reference.get() : null;
+		if (result == null) {
+			BigInteger previous = blockPower(k - 1);
+			result = previous.multiply(previous);
+			largePowers.set(k, new SoftReference<>(result));
+		}
+		return result;
+	}
+
+	private static synchronized BigInteger[] extendPowers(int k) {
+		BigInteger[] cached = powers;
+		if (k < cached.length) {
+			return cached;
+		}
+
+		BigInteger[] result = Arrays.copyOf(cached, k + 1);
+		for (int i = cached.length; i <= k; i++) {
+			result[i] = result[i - 1].multiply(result[i - 1]);
+		}
+		powers = result;
+		return result;
+	}
+}
@@ -0,0 +1,103 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates the two independent halves of a product tree (or binary splitting tree),
+ * optionally in parallel in a {@link ForkJoinPool}.
+ *
+ * <p>Parallel evaluation is disabled by default.
+ * If it is enabled, only subtrees with at least the configured number of leaves are split into parallel tasks,
+ * smaller subtrees are evaluated sequentially in the current thread.</p>
+ *
+ * <p>No argument checking or optimizations are done.
+ * This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class ProductTreeExecutor {
+
+	/**
+	 * The default minimum number of leaves of a subtree to be evaluated in parallel.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+	private static volatile Configuration configuration = null;
+
+	private ProductTreeExecutor() {
+		// prevent instances
+	}
+
+	/**
+	 * Enables the parallel evaluation in the specified {@link ForkJoinPool}.
+	 *
+	 * @param pool the {@link ForkJoinPool} to run the parallel tasks
+	 * @param threshold the minimum number of leaves of a subtree to be evaluated in parallel
+	 */
+	public static void enableParallel(ForkJoinPool pool, int threshold) {
+		configuration = new Configuration(pool, threshold);
+	}
+
+	/**
+	 * Disables the parallel evaluation.
+	 */
+	public static void disableParallel() {
+		configuration = null;
+	}
+
+	/**
+	 * Evaluates the left and right subtree and combines the results.
+	 *
+	 * @param size the number of leaves of the tree
+	 * @param left the calculation of the left subtree
+	 * @param right the calculation of the right subtree
+	 * @param combine the function combining the results of the left and right subtree
+	 * @param <T> the type of the results
+	 * @return the combined result
+	 */
+	public static <T> T evaluate(long size, Supplier<T> left, Supplier<T> right, BinaryOperator<T> combine) {
+		Configuration config = configuration;
+		if (config == null) {
+			return combine.apply(left.get(), right.get());
+		}
+		return evaluate(config.pool, config.threshold, size, left, right, combine);
+	}
+
+	/**
+	 * Evaluates the left and right subtree in the specified {@link ForkJoinPool} and combines the results,
+	 * independent of the configured parallel evaluation.
+	 *
+	 * @param pool the {@link ForkJoinPool} to run the parallel tasks
+	 * @param threshold the minimum number of leaves of a subtree to be evaluated in parallel
+	 * @param size the number of leaves of the tree
+	 * @param left the calculation of the left subtree
+	 * @param right the calculation of the right subtree
+	 * @param combine the function combining the results of the left and right subtree
+	 * @param <T> the type of the results
+	 * @return the combined result
+	 */
+	public static <T> T evaluate(ForkJoinPool pool, int threshold, long size, Supplier<T> left, Supplier<T> right, BinaryOperator<T> combine) {
+		if (size < threshold) {
+			return combine.apply(left.get(), right.get());
+		}
+
+		if (ForkJoinTask.getPool() != pool) {
+			return pool.invoke(ForkJoinTask.adapt(() -> evaluate(pool, threshold, size, left, right, combine)));
+		}
+
+		ForkJoinTask<T> leftTask = ForkJoinTask.adapt(left::get).fork();
+		T rightResult = right.get();
+		return combine.apply(leftTask.join(), rightResult);
+	}
+
+	private static class Configuration {
+		private final ForkJoinPool pool;
+		private final int threshold;
+
+		Configuration(ForkJoinPool pool, int threshold) {
+			this.pool = pool;
+			this.threshold = threshold;
+		}
+	}
+}
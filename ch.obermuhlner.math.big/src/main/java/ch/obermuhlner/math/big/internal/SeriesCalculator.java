@@ -3,9 +3,11 @@ package ch.obermuhlner.math.big.internal;
 import ch.obermuhlner.math.big.BigRational;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -13,12 +15,33 @@ import static java.util.Objects.requireNonNull;
  * Utility class to calculate taylor series efficiently until the maximum error (as defined by the precision in the {@link MathContext} is reached.
  * 
  * <p>Stores the factors of the taylor series terms so that future calculations will be faster.</p>
+ *
+ * <p>For every precision (up to a limit) the factors are additionally cached as rounded {@link BigDecimal} values,
+ * so that each term needs only a single multiplication.</p>
  */
 public abstract class SeriesCalculator {
 
+	private static final int MIN_FACTOR_TABLE_GROWTH = 8;
+
+	private static final int MAX_DECIMAL_FACTORS_PRECISION = 2000;
+	private static final int MAX_DECIMAL_FACTORS_COUNT = 16;
+
+	private static final int RECTANGULAR_SPLITTING_MIN_PRECISION = 100;
+	private static final int RECTANGULAR_SPLITTING_MIN_TERMS = 16;
+	private static final int RECTANGULAR_SPLITTING_MAX_TERMS = 1000000;
+
+	private static final double LOG10_OF_TWO = Math.log10(2);
+
+	// marker for a ratio that does not exist because one of the factors is 0
+	private static final BigRational NO_RATIO = BigRational.ZERO;
+
 	private final boolean calculateInPairs;
 
-	private final List<BigRational> factors = new ArrayList<>();
+	private volatile BigRational[] factors = new BigRational[0];
+
+	private volatile BigRational[] factorRatios = new BigRational[0];
+
+	private final Map<MathContext, DecimalFactors> decimalFactorsCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructs a {@link SeriesCalculator} that calculates single terms.
@@ -42,33 +65,46 @@ public abstract class SeriesCalculator {
 	/**
 	 * Calculates the series for the specified value x and the precision defined in the {@link MathContext}.
 	 *
+	 * <p>For high precisions with many terms the series is evaluated using rectangular splitting,
+	 * otherwise term by term.</p>
+	 *
 	 * @param x the value x
 	 * @param mathContext the {@link MathContext}
 	 * @return the calculated result
 	 */
 	public BigDecimal calculate(BigDecimal x, MathContext mathContext) {
+		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+
+		if (mathContext.getPrecision() >= RECTANGULAR_SPLITTING_MIN_PRECISION) {
+			int termCount = estimateTermCount(powerIterator, mathContext);
+			if (termCount >= RECTANGULAR_SPLITTING_MIN_TERMS) {
+				return calculateRectangularSplitting(powerIterator, termCount, mathContext);
+			}
+		}
+
+		return calculateTermByTerm(powerIterator, mathContext);
+	}
+
+	private BigDecimal calculateTermByTerm(PowerIterator powerIterator, MathContext mathContext) {
 		BigDecimal acceptableError = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() + 1);
 
-		PowerIterator powerIterator = createPowerIterator(x, mathContext);
+		DecimalFactors decimalFactors = getDecimalFactors(mathContext);
 		
 		BigDecimal sum = BigDecimal.ZERO;
 		BigDecimal step;
 		int i = 0;
 		do {
-			BigRational factor;
 			BigDecimal xToThePower;
 
-			factor = getFactor(i);
 			xToThePower  = powerIterator.getCurrentPower();
 			powerIterator.calculateNextPower();
-			step = factor.getNumerator().multiply(xToThePower).divide(factor.getDenominator(), mathContext);
+			step = multiply(decimalFactors.get(i), xToThePower, mathContext);
 			i++;
 
 			if (calculateInPairs) {
-				factor = getFactor(i);
 				xToThePower = powerIterator.getCurrentPower();
 				powerIterator.calculateNextPower();
-				BigDecimal step2 = factor.getNumerator().multiply(xToThePower).divide(factor.getDenominator(), mathContext);
+				BigDecimal step2 = multiply(decimalFactors.get(i), xToThePower, mathContext);
 				step = step.add(step2);
 				i++;
 			}
@@ -79,7 +115,138 @@ public abstract class SeriesCalculator {
 		
 		return sum.round(mathContext);
 	}
-	
+
+	/**
+	 * Estimates the number of terms until a term is smaller than the acceptable error.
+	 *
+	 * @return the number of terms, or 0 if it cannot be estimated
+	 */
+	private int estimateTermCount(PowerIterator powerIterator, MathContext mathContext) {
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerStep = powerIterator.getPowerStep();
+		if (firstPower.signum() == 0 || powerStep.signum() == 0) {
+			return 0;
+		}
+
+		double log10FirstPower = log10(firstPower);
+		double log10PowerStep = log10(powerStep);
+		// one digit safety margin for the estimated magnitudes
+		double log10AcceptableError = -(mathContext.getPrecision() + 1) - 1;
+
+		for (int i = 0; i < RECTANGULAR_SPLITTING_MAX_TERMS; i++) {
+			BigRational factor = getFactor(i);
+			if (!factor.isZero()) {
+				double log10Term = log10(factor) + i * log10PowerStep + log10FirstPower;
+				if (log10Term < log10AcceptableError) {
+					return i + 1;
+				}
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Calculates the series using rectangular splitting (Paterson-Stockmeyer).
+	 *
+	 * <p>The polynomial in y (the power step) is split into blocks of sqrt(n) terms.
+	 * The powers y<sup>1</sup> to y<sup>k</sup> are calculated once
+	 * and the blocks are combined using Horner's rule with y<sup>k</sup>.</p>
+	 *
+	 * <p>Inside a block all factors are expressed relative to the factor of the last term,
+	 * which for typical taylor series are small integers,
+	 * so that only one full precision multiplication is needed per block.</p>
+	 */
+	private BigDecimal calculateRectangularSplitting(PowerIterator powerIterator, int termCount, MathContext mathContext) {
+		BigDecimal firstPower = powerIterator.getCurrentPower();
+		BigDecimal powerStep = powerIterator.getPowerStep();
+		DecimalFactors decimalFactors = getDecimalFactors(mathContext);
+
+		int blockSize = (int) Math.ceil(Math.sqrt(termCount));
+		BigDecimal[] stepPowers = new BigDecimal[blockSize + 1];
+		stepPowers[0] = BigDecimal.ONE;
+		for (int i = 1; i <= blockSize; i++) {
+			stepPowers[i] = stepPowers[i - 1].multiply(powerStep, mathContext);
+		}
+
+		BigDecimal sum = BigDecimal.ZERO;
+		int blockCount = (termCount + blockSize - 1) / blockSize;
+		for (int block = blockCount - 1; block >= 0; block--) {
+			int start = block * blockSize;
+			int end = Math.min(start + blockSize, termCount);
+			BigDecimal blockSum = calculateBlock(start, end, stepPowers, decimalFactors, mathContext);
+			sum = sum.multiply(stepPowers[blockSize], mathContext).add(blockSum, mathContext);
+		}
+
+		return firstPower.multiply(sum, mathContext);
+	}
+
+	private BigDecimal calculateBlock(int start, int end, BigDecimal[] stepPowers, DecimalFactors decimalFactors, MathContext mathContext) {
+		int last = end - 1;
+		BigInteger ratioNumerator = BigInteger.ONE;
+		BigInteger ratioDenominator = BigInteger.ONE;
+
+		BigDecimal blockSum = stepPowers[last - start];
+		for (int i = last - 1; i >= start; i--) {
+			BigRational ratio = getFactorRatio(i + 1);
+			if (ratio == null) {
+				return calculateBlockTermByTerm(start, end, stepPowers, decimalFactors, mathContext);
+			}
+
+			// ratio of factor(i) to factor(last)
+			ratioNumerator = ratioNumerator.multiply(ratio.getNumeratorBigInteger());
+			ratioDenominator = ratioDenominator.multiply(ratio.getDenominatorBigInteger());
+
+			BigDecimal term = stepPowers[i - start].multiply(new BigDecimal(ratioNumerator));
+			if (!ratioDenominator.equals(BigInteger.ONE)) {
+				term = NewtonDivision.divide(term, new BigDecimal(ratioDenominator), mathContext);
+			}
+			blockSum = blockSum.add(term);
+		}
+
+		return multiply(decimalFactors.get(last), blockSum, mathContext);
+	}
+
+	private BigDecimal calculateBlockTermByTerm(int start, int end, BigDecimal[] stepPowers, DecimalFactors decimalFactors, MathContext mathContext) {
+		BigDecimal blockSum = BigDecimal.ZERO;
+		for (int i = start; i < end; i++) {
+			blockSum = blockSum.add(multiply(decimalFactors.get(i), stepPowers[i - start], mathContext));
+		}
+		return blockSum;
+	}
+
+	private static double log10(BigRational value) {
+		return (value.getNumeratorBigInteger().abs().bitLength() - value.getDenominatorBigInteger().bitLength()) * LOG10_OF_TWO;
+	}
+
+	private static double log10(BigDecimal value) {
+		int exponent = value.precision() - value.scale() - 1;
+		double mantissa = value.round(MathContext.DECIMAL64).movePointLeft(exponent).doubleValue();
+		return exponent + Math.log10(Math.abs(mantissa));
+	}
+
+	private static BigDecimal multiply(BigDecimal factor, BigDecimal xToThePower, MathContext mathContext) {
+		if (xToThePower.signum() == 0) {
+			// avoid the scale of the rounded factor leaking into zero terms
+			return BigDecimal.ZERO;
+		}
+		return factor.multiply(xToThePower, mathContext);
+	}
+
+	private DecimalFactors getDecimalFactors(MathContext mathContext) {
+		if (mathContext.getPrecision() > MAX_DECIMAL_FACTORS_PRECISION) {
+			return new DecimalFactors(mathContext, false);
+		}
+
+		DecimalFactors decimalFactors = decimalFactorsCache.get(mathContext);
+		if (decimalFactors == null) {
+			if (decimalFactorsCache.size() >= MAX_DECIMAL_FACTORS_COUNT) {
+				decimalFactorsCache.clear();
+			}
+			decimalFactors = decimalFactorsCache.computeIfAbsent(mathContext, key -> new DecimalFactors(key, true));
+		}
+		return decimalFactors;
+	}
+
 	/**
 	 * Creates the {@link PowerIterator} used for this series.
 	 * 
@@ -92,23 +259,121 @@ public abstract class SeriesCalculator {
 	/**
 	 * Returns the factor of the term with specified index.
 	 *
-	 * All mutable state of this class (and all its subclasses) must be modified in this method.
-	 * This method is synchronized to allow thread-safe usage of this class.
+	 * <p>The already calculated factors are published as an immutable snapshot,
+	 * reading them is lock-free.
+	 * Only extending the table with new factors is synchronized.</p>
+	 *
+	 * All mutable state of this class (and all its subclasses) must be modified in {@link #getCurrentFactor()} and {@link #calculateNextFactor()},
+	 * which are only called while extending the table.
 	 *
 	 * @param index the index (starting with 0)
 	 * @return the factor of the specified term
 	 */
-	protected synchronized BigRational getFactor(int index) {
-		while (factors.size() <= index) {
+	protected BigRational getFactor(int index) {
+		BigRational[] snapshot = factors;
+		if (index < snapshot.length) {
+			return snapshot[index];
+		}
+		return extendFactors(index)[index];
+	}
+
+	/**
+	 * Returns the ratio of the factor with the index-1 to the factor with the specified index.
+	 *
+	 * @param index the index (starting with 1)
+	 * @return the reduced ratio, or <code>null</code> if one of the two factors is 0
+	 */
+	private BigRational getFactorRatio(int index) {
+		BigRational[] snapshot = factorRatios;
+		if (index >= snapshot.length) {
+			snapshot = extendFactorRatios(index);
+		}
+		BigRational ratio = snapshot[index];
+		return ratio == NO_RATIO ? null : ratio;
+	}
+
+	private synchronized BigRational[] extendFactorRatios(int index) {
+		BigRational[] snapshot = factorRatios;
+		if (index < snapshot.length) {
+			return snapshot;
+		}
+
+		int newLength = Math.max(index + 1, snapshot.length + (snapshot.length >> 1) + MIN_FACTOR_TABLE_GROWTH);
+		BigRational[] extended = Arrays.copyOf(snapshot, newLength);
+		for (int i = Math.max(1, snapshot.length); i < newLength; i++) {
+			BigRational previousFactor = getFactor(i - 1);
+			BigRational factor = getFactor(i);
+			extended[i] = previousFactor.isZero() || factor.isZero() ? NO_RATIO : previousFactor.divide(factor).reduce();
+		}
+
+		factorRatios = extended;
+		return extended;
+	}
+
+	private synchronized BigRational[] extendFactors(int index) {
+		BigRational[] snapshot = factors;
+		if (index < snapshot.length) {
+			return snapshot;
+		}
+
+		// grow by at least 50% to amortize the copying of the snapshot
+		int newLength = Math.max(index + 1, snapshot.length + (snapshot.length >> 1) + MIN_FACTOR_TABLE_GROWTH);
+		BigRational[] extended = Arrays.copyOf(snapshot, newLength);
+		for (int i = snapshot.length; i < newLength; i++) {
 			BigRational factor = getCurrentFactor();
-			addFactor(factor);
+			extended[i] = requireNonNull(factor, "Factor cannot be null");
 			calculateNextFactor();
 		}
-		return factors.get(index);
+
+		factors = extended;
+		return extended;
 	}
 
-	private void addFactor(BigRational factor){
-		factors.add(requireNonNull(factor, "Factor cannot be null"));
+	/**
+	 * The factors of the series rounded to the precision of a {@link MathContext},
+	 * so that every term can be calculated with a single multiplication.
+	 *
+	 * <p>If the factors are not stored they are converted on demand,
+	 * so that the rectangular splitting only pays for the factors it actually uses.</p>
+	 */
+	private class DecimalFactors {
+		private final MathContext mathContext;
+		private final boolean store;
+
+		private volatile BigDecimal[] values = new BigDecimal[0];
+
+		DecimalFactors(MathContext mathContext, boolean store) {
+			this.mathContext = mathContext;
+			this.store = store;
+		}
+
+		BigDecimal get(int index) {
+			if (!store) {
+				return getFactor(index).toBigDecimal(mathContext);
+			}
+
+			BigDecimal[] snapshot = values;
+			if (index < snapshot.length) {
+				return snapshot[index];
+			}
+			return extend(index)[index];
+		}
+
+		private synchronized BigDecimal[] extend(int index) {
+			BigDecimal[] snapshot = values;
+			if (index < snapshot.length) {
+				return snapshot;
+			}
+
+			int newLength = Math.max(index + 1, snapshot.length + (snapshot.length >> 1) + MIN_FACTOR_TABLE_GROWTH);
+			BigDecimal[] extended = Arrays.copyOf(snapshot, newLength);
+			for (int i = snapshot.length; i < newLength; i++) {
+				extended[i] = getFactor(i).toBigDecimal(mathContext);
+			}
+
+			values = extended;
+			return extended;
+		}
 	}
 
 	/**
@@ -0,0 +1,159 @@
+package ch.obermuhlner.math.big.internal;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Caches the constants of Spouge's approximation for the most recently used values of the parameter a.
+ *
+ * <p>Concurrent requests for the same parameter are coalesced into a single calculation,
+ * which runs without holding any lock.
+ * Requests for other parameters are not blocked by a running calculation.</p>
+ *
+ * <p>The cache is bounded by the number of parameters and by the total number of digits of all constants,
+ * the least recently used parameters are evicted first.
+ * The constants for the parameter a are assumed to have a precision of 1.5 * a digits.</p>
+ *
+ * <p>If a {@link ConstantStore#getDefault() default store} is configured,
+ * the constants are loaded from the store before they are calculated, and calculated constants are saved in the store.</p>
+ *
+ * <p>This implementation is <strong>not</strong> intended to be called directly.</p>
+ */
+public class SpougeConstantsCache {
+
+	private static final String STORE_NAME_PREFIX = "spouge-";
+
+	private final IntFunction<List<BigDecimal>> calculation;
+	private final int maxEntryCount;
+	private final long maxDigitCount;
+
+	private final Map<Integer, CompletableFuture<List<BigDecimal>>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Constructs a {@link SpougeConstantsCache} using the specified calculation.
+	 *
+	 * @param calculation the function calculating the list of constants for the parameter a
+	 * @param maxEntryCount the maximum number of cached parameters
+	 * @param maxDigitCount the maximum total number of digits of all cached constants
+	 */
+	public SpougeConstantsCache(IntFunction<List<BigDecimal>> calculation, int maxEntryCount, long maxDigitCount) {
+		this.calculation = calculation;
+		this.maxEntryCount = maxEntryCount;
+		this.maxDigitCount = maxDigitCount;
+	}
+
+	/**
+	 * Returns the constants for the specified parameter, calculating them if they are not cached.
+	 *
+	 * @param a the parameter a of Spouge's approximation
+	 * @return the unmodifiable list of the a constants
+	 */
+	public List<BigDecimal> get(int a) {
+		CompletableFuture<List<BigDecimal>> future;
+		boolean calculate = false;
+		synchronized (entries) {
+			future = entries.get(a);
+			if (future == null) {
+				future = new CompletableFuture<>();
+				entries.put(a, future);
+				evict();
+				calculate = true;
+			}
+		}
+
+		if (calculate) {
+			try {
+				List<BigDecimal> result = calculate(a);
+				future.complete(result);
+				return result;
+			} catch (RuntimeException | Error ex) {
+				synchronized (entries) {
+					entries.remove(a, future);
+				}
+				future.completeExceptionally(ex);
+				throw ex;
+			}
+		}
+
+		return join(future);
+	}
+
+	/**
+	 * Stores the specified constants for the specified parameter, replacing any cached constants.
+	 *
+	 * @param a the parameter a of Spouge's approximation
+	 * @param constants the unmodifiable list of the a constants
+	 */
+	public void put(int a, List<BigDecimal> constants) {
+		synchronized (entries) {
+			entries.put(a, CompletableFuture.completedFuture(constants));
+			evict();
+		}
+	}
+
+	/**
+	 * Removes all cached constants.
+	 */
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	private List<BigDecimal> calculate(int a) {
+		ConstantStore store = ConstantStore.getDefault();
+		if (store == null) {
+			return calculation.apply(a);
+		}
+
+		String name = STORE_NAME_PREFIX + a;
+		List<BigDecimal> result = store.loadAll(name);
+		if (result == null || result.size() != a) {
+			result = calculation.apply(a);
+			store.saveAll(name, result);
+		}
+		return result;
+	}
+
+	private void evict() {
+		long digitCount = 0;
+		for (Integer a : entries.keySet()) {
+			digitCount += digitCount(a);
+		}
+
+		// the most recently used entry (the last in iteration order) is always kept
+		Iterator<Integer> iterator = entries.keySet().iterator();
+		int entryCount = entries.size();
+		while (entryCount > 1 && (entryCount > maxEntryCount || digitCount > maxDigitCount)) {
+			Integer eldest = iterator.next();
+			iterator.remove();
+			entryCount--;
+			digitCount -= digitCount(eldest);
+		}
+	}
+
+	private static long digitCount(int a) {
+		return (long) a * a * 3 / 2;
+	}
+
+	private static List<BigDecimal> join(CompletableFuture<List<BigDecimal>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw ex;
+		}
+	}
+}
@@ -139,6 +139,16 @@ public class BigComplexMathTest {
 		   		5);
 	}
 
+	@Test
+	public void testRootInt() {
+		assertPrecisionCalculation(
+				BigComplex.valueOf(new BigDecimal("1.2589858696615772964532950314498058030426856758251923734"), new BigDecimal("0.48693816197569980888611771300161883360684382303096712193")).round(MC),
+		   		(mc) -> BigComplexMath.root(BigComplex.valueOf(1.1, 2.2), 3, mc),
+		   		5);
+
+		assertEquals(BigComplex.ZERO, BigComplexMath.root(BigComplex.ZERO, 3, MC));
+	}
+
 	@Test
 	public void testRootComplex() {
 		assertPrecisionCalculation(
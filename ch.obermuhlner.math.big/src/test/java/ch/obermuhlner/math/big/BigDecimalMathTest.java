@@ -1,20 +1,41 @@
 package ch.obermuhlner.math.big;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import ch.obermuhlner.math.big.internal.ConstantStore;
+import ch.obermuhlner.math.big.internal.NewtonDivision;
+import ch.obermuhlner.math.big.internal.PowersOfTen;
 import ch.obermuhlner.math.big.stream.BigDecimalStream;
 import static ch.obermuhlner.util.ThreadUtil.runMultiThreaded;
 import org.junit.Test;
@@ -161,11 +182,207 @@ public class BigDecimalMathTest {
         assertToBigDecimal("1.23E-123");
     }
 
+    @Test
+    public void testToBigDecimalCharSequence() {
+        String string = createDigits(5000, 7) + "." + createDigits(3000, 8) + "E-12";
+        BigDecimal expected = new BigDecimal(string);
+
+        assertEquals(expected, BigDecimalMath.toBigDecimal(new StringBuilder(string), MathContext.UNLIMITED));
+        assertEquals(expected, BigDecimalMath.toBigDecimal(CharBuffer.wrap(string), MathContext.UNLIMITED));
+        assertEquals(expected.negate(), BigDecimalMath.toBigDecimal(CharBuffer.wrap("-" + string), MathContext.UNLIMITED));
+        assertEquals(new BigDecimal(string, MC), BigDecimalMath.toBigDecimal(CharBuffer.wrap(string), MC));
+    }
+
+    @Test
+    public void testToBigDecimalParallel() {
+        String string = createDigits(150000, 9) + "." + createDigits(100000, 10);
+        BigDecimal expected = new BigDecimal(string);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED, pool));
+            assertEquals(expected.round(MC), BigDecimalMath.toBigDecimal(string, MC, pool));
+            assertThrows(NumberFormatException.class, () -> BigDecimalMath.toBigDecimal(string.substring(0, 200000) + "x" + string.substring(200001), MathContext.UNLIMITED, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+        String[] strings = {
+                "0", "0.0", "0.00000000", "0E+3", "0E-3", "0E-10",
+                "1", "-1", "123", "-123", "1.5", "-0.001", "0.000001", "0.0000001", "1.23E-7", "1.23E-10",
+                "1E+3", "1.23E+3", "-1.23E+3", "1.23E+123", "-1.23E-123",
+                "123456789012345678", "1234567890123456789", "9999999999999999999", "10000000000000000000",
+                "1234567890123456789012345678901234567890.123456789012345678901234567890",
+                "0.000000000000000000000000000000000000001234567890123456789012345678901234567890",
+                "1234567890123456789012345678901234567890E+50",
+                "1000000000000000000000000000000000000000000000000000000000000000000000"
+        };
+        for (String string : strings) {
+            BigDecimal value = new BigDecimal(string);
+            for (BigDecimal v : Arrays.asList(value, value.negate(), value.setScale(value.scale() + 3), value.setScale(value.scale() - 1, RoundingMode.HALF_UP))) {
+                StringBuilder result = new StringBuilder();
+                BigDecimalMath.write(v, result);
+                assertEquals(v.toString(), result.toString());
+
+                StringBuilder plainResult = new StringBuilder();
+                BigDecimalMath.writePlain(v, plainResult);
+                assertEquals(v.toPlainString(), plainResult.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testWriteLarge() throws IOException {
+        BigDecimal value = new BigDecimal(createDigits(50000, 11) + "." + createDigits(20000, 12));
+        for (BigDecimal v : Arrays.asList(value, value.negate(), value.movePointLeft(100000), value.movePointRight(100000))) {
+            StringWriter result = new StringWriter();
+            BigDecimalMath.write(v, result);
+            assertEquals(v.toString(), result.toString());
+
+            StringWriter plainResult = new StringWriter();
+            BigDecimalMath.writePlain(v, plainResult);
+            assertEquals(v.toPlainString(), plainResult.toString());
+        }
+    }
+
+    @Test
+    public void testToBigDecimalWriteBeyondCachedPowers() throws IOException {
+        String string = "1" + createDigits((int) PowersOfTen.MAX_STRONGLY_CACHED_DIGITS * 2 + 12345, 13);
+        BigDecimal value = BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED);
+        assertEquals(string.length(), value.precision());
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            StringBuilder result = new StringBuilder();
+            BigDecimalMath.writePlain(value, result);
+            assertEquals(string, result.toString());
+        }
+    }
+
+    @Test
+    public void testWriteChannel() throws IOException {
+        BigDecimal value = new BigDecimal(createDigits(30000, 13) + "." + createDigits(30000, 14));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+
+        BigDecimalMath.write(value, channel);
+        assertEquals(true, channel.isOpen());
+        assertEquals(value.toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testWriteParallel() throws IOException {
+        BigDecimal value = new BigDecimal(createDigits(300000, 15) + "." + createDigits(100000, 16));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringWriter result = new StringWriter();
+            BigDecimalMath.write(value, result, pool);
+            assertEquals(value.toString(), result.toString());
+
+            StringWriter scientificResult = new StringWriter();
+            BigDecimalMath.write(value.movePointRight(500000), scientificResult, pool);
+            assertEquals(value.movePointRight(500000).toString(), scientificResult.toString());
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BigDecimalMath.write(value.negate(), Channels.newChannel(out), pool);
+            assertEquals(value.negate().toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWriteConstant() throws IOException {
+        MathContext mathContext = new MathContext(2000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BigDecimalMath.writeConstant(BigDecimalMath::pi, mathContext, Channels.newChannel(out));
+        assertEquals(BigDecimalMath.pi(mathContext).toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ByteArrayOutputStream parallelOut = new ByteArrayOutputStream();
+            BigDecimalMath.writeConstant(mc -> BigDecimalMath.log(BigDecimal.valueOf(2), mc), mathContext, Channels.newChannel(parallelOut), pool);
+            assertEquals(BigDecimalMath.log(BigDecimal.valueOf(2), mathContext).toString(), new String(parallelOut.toByteArray(), StandardCharsets.US_ASCII));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWriteConstantMapped() throws IOException {
+        Path path = Files.createTempFile("constant", ".txt");
+        try {
+            MathContext mathContext = new MathContext(5000);
+            BigDecimalMath.writeConstant(BigDecimalMath::e, mathContext, path);
+            assertEquals(BigDecimalMath.e(mathContext).toString(), new String(Files.readAllBytes(path), StandardCharsets.US_ASCII));
+
+            BigDecimal large = new BigDecimal(createDigits(200000, 18) + "." + createDigits(100000, 19));
+            String[] strings = { "0", "0.000", "0E+5", "-1.5", "0.000000123", "-1.23E-20", "1.23E+20", "7", large.toString(), large.negate().scaleByPowerOfTen(-400000).toString() };
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                for (String string : strings) {
+                    BigDecimal value = new BigDecimal(string);
+                    BigDecimalMath.writeConstant(mc -> value, mathContext, path);
+                    assertEquals(value.toString(), new String(Files.readAllBytes(path), StandardCharsets.US_ASCII));
+
+                    BigDecimalMath.writeConstant(mc -> value, mathContext, path, pool);
+                    assertEquals(value.toString(), new String(Files.readAllBytes(path), StandardCharsets.US_ASCII));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testWriteConstantUnlimitedFail() throws IOException {
+        BigDecimalMath.writeConstant(BigDecimalMath::pi, MathContext.UNLIMITED, Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testWriteIOException() {
+        Appendable failing = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException("failing");
+            }
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException("failing");
+            }
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException("failing");
+            }
+        };
+        BigDecimal value = new BigDecimal(createDigits(20000, 17));
+        try {
+            BigDecimalMath.write(value, failing);
+            fail("Expected: " + IOException.class.getName());
+        } catch (IOException exception) {
+            assertEquals("failing", exception.getMessage());
+        }
+    }
+
+    private static String createDigits(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append((char) ('0' + random.nextInt(10)));
+        }
+        return result.toString();
+    }
+
     private static void assertToBigDecimal(String string) {
         BigDecimal expected = new BigDecimal(string);
 
         for (int i = 2; i < 10; i++) {
-            BigDecimal actual = BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED, i);
+            BigDecimal actual = BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED, i, null);
 
             assertTrue("toBigDecimal(_,_," + i + ") " + expected + " compareTo " + actual, expected.compareTo(actual) == 0);
             assertEquals(expected, actual);
@@ -175,7 +392,7 @@ public class BigDecimalMathTest {
     private static void assertToBigDecimalThrows(String string) {
         assertThrows(NumberFormatException.class, () -> new BigDecimal(string));
 
-        assertThrows(NumberFormatException.class, () -> BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED, 1));
+        assertThrows(NumberFormatException.class, () -> BigDecimalMath.toBigDecimal(string, MathContext.UNLIMITED, 1, null));
     }
 
     @Test
@@ -397,6 +614,27 @@ public class BigDecimalMathTest {
 			10);
 	}
 
+	@Test
+	public void testPiMultiThreaded() throws Throwable {
+		// Result from wolframalpha.com: pi
+		BigDecimal expected = new BigDecimal("3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798214808651328230664709384460955058223172535940812848111745028410270193852110555964462294895493038196");
+		AtomicInteger precisionCounter = new AtomicInteger(5);
+		runMultiThreaded(20, () -> {
+			MathContext mathContext = new MathContext(precisionCounter.getAndAdd(9));
+			assertEquals(expected.round(mathContext), BigDecimalMath.pi(mathContext));
+		});
+	}
+
+	@Test
+	public void testLogTenIncreasingPrecision() {
+		// Result from wolframalpha.com: log(10)
+		BigDecimal expected = new BigDecimal("2.30258509299404568401799145468436420760110148862877297603332790096757260967735248023599720508959829834196778404228624863340952546508280675666628736909878168948290720832555468084379989482623319852839350530896537773262884616336622228769821988674654366747440424327436515504893431493939147961940440022210510171417480036880840126470806855677432162283552201148046637156591213734507478569476834636167921018064450706480002775026849167465505868569356734206705811364292245544057589257242082413146956890167589402567763113569192920333765871416602301057030896345720754403708474699401682692828084811842893148485249486448719278096762712757753970276686059524967166741834857044225071979650047149510504922147765676369386629769795221107182645497347726624257094293225827985025855097852653832076067263171643095059950878075237103331011978575473315414218084275438635917781170543098274823850456480190956102992918243182375253577097505395651876975103749708886921802051893395072385392051446341972652872869651108625714921988499787488737713456862091670584980782805975119385444500997813114691593466624107184669231010759843831919129223079250374729865092900988039194170265441681633572755570315159611356484654619089704281976336583698371632898217440736600916217785054177927636773114504178213766011101073104239783252189489881759792179866639431952393685591644711824675324563091252877833096360426298215304087456092776072664135478757661626292656829870495795491395491804920906943858079003276301794150311786686209240853794986126493347935487173745167580953708828106745244010589244497647968607512027572418187498939597164310551884819528833074669931781463493000032120032776565413047262188397059679445794346834321839530441484480370130575367426215367557981477045803141363779323629156012818533649846694226146520645994207291711937060244492");
+		for (int precision = 1; precision <= 300; precision += 7) {
+			MathContext mathContext = new MathContext(precision);
+			assertEquals("precision=" + precision, expected.round(mathContext), BigDecimalMath.log(BigDecimal.TEN, mathContext));
+		}
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testPiUnlimitedFail() {
 		BigDecimalMath.pi(MathContext.UNLIMITED);
@@ -459,6 +697,80 @@ public class BigDecimalMathTest {
 		BigDecimalMath.reciprocal(BigDecimal.valueOf(3), MathContext.UNLIMITED);
 	}
 
+	@Test
+	public void testReciprocalHighPrecision() {
+		Random random = new Random(4321);
+		for (int precision : new int[] { 1000, 2500 }) {
+			for (RoundingMode roundingMode : new RoundingMode[] { RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR }) {
+				MathContext mathContext = new MathContext(precision, roundingMode);
+				for (int i = 0; i < 5; i++) {
+					BigDecimal x = new BigDecimal(new BigInteger(precision * 4, random), precision + i * 100);
+					if (i % 2 == 1) {
+						x = x.negate();
+					}
+					// the second division by the same divisor uses the cached reciprocal
+					for (int repeat = 0; repeat < 3; repeat++) {
+						assertEquals(BigDecimal.ONE.divide(x, mathContext), BigDecimalMath.reciprocal(x, mathContext));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReciprocalHighPrecisionMultiThreaded() throws Throwable {
+		// more divisors than reciprocals are cached, every divisor is used repeatedly from several threads
+		BigDecimal[] divisors = new BigDecimal[12];
+		for (int i = 0; i < divisors.length; i++) {
+			divisors[i] = new BigDecimal(createDigits(1200, 100 + i)).add(BigDecimal.ONE);
+		}
+		MathContext mathContext = new MathContext(1500);
+		AtomicInteger counter = new AtomicInteger();
+
+		runMultiThreaded(4, () -> {
+			for (int repeat = 0; repeat < 3; repeat++) {
+				BigDecimal x = divisors[counter.getAndIncrement() % divisors.length];
+				assertEquals(BigDecimal.ONE.divide(x, mathContext), BigDecimalMath.reciprocal(x, mathContext));
+			}
+		});
+	}
+
+	@Test
+	public void testReciprocalHighPrecisionUncachedDivisor() {
+		BigDecimal x = new BigDecimal("1" + createDigits(NewtonDivision.MAX_CACHED_DIGITS + 10, 5));
+		for (int precision : new int[] { 2000, NewtonDivision.UNCACHED_PRECISION_THRESHOLD }) {
+			MathContext mathContext = new MathContext(precision);
+			for (int repeat = 0; repeat < 2; repeat++) {
+				assertEquals(BigDecimal.ONE.divide(x, mathContext), BigDecimalMath.reciprocal(x, mathContext));
+			}
+		}
+	}
+
+	@Test
+	public void testReciprocalHighPrecisionRoundingBoundary() {
+		// 1 / 2^n = 5^n / 10^n is exact and ends with the digit 5
+		for (int n = 3330; n < 3340; n++) {
+			BigDecimal x = new BigDecimal(BigInteger.valueOf(2).pow(n));
+			int digits = BigInteger.valueOf(5).pow(n).toString().length();
+			for (int precision : new int[] { digits - 1, digits, digits + 10 }) {
+				for (RoundingMode roundingMode : new RoundingMode[] { RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.HALF_DOWN, RoundingMode.UP, RoundingMode.DOWN }) {
+					MathContext mathContext = new MathContext(precision, roundingMode);
+					for (int repeat = 0; repeat < 2; repeat++) {
+						assertEquals(BigDecimal.ONE.divide(x, mathContext), BigDecimalMath.reciprocal(x, mathContext));
+					}
+				}
+			}
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testReciprocalHighPrecisionUnnecessaryFail() {
+		BigDecimal x = new BigDecimal(createDigits(1500, 3)).add(BigDecimal.ONE);
+		MathContext mathContext = new MathContext(2000, RoundingMode.UNNECESSARY);
+		BigDecimalMath.reciprocal(x, new MathContext(2000));
+		BigDecimalMath.reciprocal(x, mathContext);
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testReciprocalFail() {
 		assertEquals(BigDecimal.valueOf(123), BigDecimalMath.reciprocal(BigDecimal.ZERO, MC));
@@ -484,6 +796,266 @@ public class BigDecimalMathTest {
         }
 	}
 
+	@Test
+	public void testFactorialIntLarge() {
+		// the expected values are calculated independently of the prime swing algorithm
+		BigInteger expected = product(1, 998);
+		for (int n = 999; n < 3000; n++) {
+			expected = expected.multiply(BigInteger.valueOf(n));
+			assertEquals("factorial(" + n + ")", new BigDecimal(expected), BigDecimalMath.factorial(n));
+		}
+
+		for (int n : new int[] { 99, 100, 101, 12345, 12346, 13000, 20000 }) {
+			assertEquals("factorial(" + n + ")", new BigDecimal(product(1, n)), BigDecimalMath.factorial(n));
+		}
+
+		expected = product(1, 199999);
+		assertEquals(new BigDecimal(expected), BigDecimalMath.factorial(199999));
+		expected = expected.multiply(BigInteger.valueOf(200000));
+		assertEquals(new BigDecimal(expected), BigDecimalMath.factorial(200000));
+		expected = expected.multiply(BigInteger.valueOf(200001));
+		assertEquals(new BigDecimal(expected), BigDecimalMath.factorial(200001));
+	}
+
+	private static BigInteger product(int from, int to) {
+		if (to - from < 16) {
+			BigInteger result = BigInteger.ONE;
+			for (int i = from; i <= to; i++) {
+				result = result.multiply(BigInteger.valueOf(i));
+			}
+			return result;
+		}
+		int mid = (from + to) / 2;
+		return product(from, mid).multiply(product(mid + 1, to));
+	}
+
+	@Test
+	public void testFactorialIntLargeMultiThreaded() throws Throwable {
+		BigDecimal expected = BigDecimalMath.factorial(5000);
+		runMultiThreaded(() -> {
+			assertEquals(expected.multiply(BigDecimal.valueOf(5001)), BigDecimalMath.factorial(5001));
+			assertEquals(expected, BigDecimalMath.factorial(5001).divide(BigDecimal.valueOf(5001)));
+		});
+	}
+
+	@Test
+	public void testParallelProductTrees() {
+		BigDecimal expectedFactorial = BigDecimalMath.factorial(999);
+		BigDecimal expectedExp = BigDecimalMath.exp(new BigDecimal("1.5"), new MathContext(2000));
+		BigDecimalMath.clearConstantCaches();
+		List<BigDecimal> expectedFactorialConstants = BigDecimalMath.exportFactorialConstants(new MathContext(60));
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			BigDecimalMath.enableParallelProductTrees(pool, 2);
+			assertEquals(expectedFactorial, BigDecimalMath.factorial(999));
+			assertEquals(expectedExp, BigDecimalMath.exp(new BigDecimal("1.5"), new MathContext(2000)));
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(expectedFactorialConstants, BigDecimalMath.exportFactorialConstants(new MathContext(60)));
+		} finally {
+			BigDecimalMath.disableParallelProductTrees();
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParallelProductTreesIllegalThreshold() {
+		BigDecimalMath.enableParallelProductTrees(ForkJoinPool.commonPool(), 1);
+	}
+
+	@Test
+	public void testEmbeddedConstants() {
+		MathContext mathContext = new MathContext(5000);
+		MathContext calculationMathContext = new MathContext(5010);
+		ConstantStore embedded = ConstantStore.getEmbedded();
+
+		assertEquals(BigDecimalMath.pi(calculationMathContext).round(mathContext), embedded.load("pi", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.pi(calculationMathContext).divide(BigDecimal.valueOf(2), mathContext), embedded.load("halfPi", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.e(calculationMathContext).round(mathContext), embedded.load("e", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.log(BigDecimal.valueOf(2), calculationMathContext).round(mathContext), embedded.load("log2", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.log(BigDecimal.valueOf(3), calculationMathContext).round(mathContext), embedded.load("log3", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.log(BigDecimal.TEN, calculationMathContext).round(mathContext), embedded.load("log10", 5000).round(mathContext));
+		assertEquals(BigDecimalMath.sqrt(BigDecimal.valueOf(2), calculationMathContext).round(mathContext), embedded.load("sqrt2", 5000).round(mathContext));
+
+		assertEquals(null, embedded.load("pi", 5001));
+		assertEquals(null, embedded.load("unknown", 10));
+	}
+
+	@Test
+	public void testEmbeddedConstantsSliced() {
+		BigDecimalMath.clearConstantCaches();
+		assertEquals(new BigDecimal("3.141592653589793238462643383279503"), BigDecimalMath.pi(MathContext.DECIMAL128));
+		assertEquals(new BigDecimal("1.414213562373095048801688724209698"), BigDecimalMath.sqrt(BigDecimal.valueOf(2), MathContext.DECIMAL128));
+		assertEquals(new BigDecimal("2.30258509299404568401799145468436420760110148862877297603332790096757260967735248023599720508959829834196778404229"), BigDecimalMath.log(BigDecimal.TEN, new MathContext(114)));
+		assertEquals(new BigDecimal("3.14159"), BigDecimalMath.pi(new MathContext(6, RoundingMode.DOWN)));
+
+		// a slice for a low precision must not be truncated for higher precisions
+		BigDecimalMath.clearConstantCaches();
+		assertEquals(new BigDecimal("2"), BigDecimalMath.log(BigDecimal.TEN, new MathContext(1)));
+		assertEquals(new BigDecimal("2.30258509299404568401799145468436421"), BigDecimalMath.log(BigDecimal.TEN, new MathContext(36)));
+
+		// the slices must be rounded exactly once, also for other rounding modes
+		BigDecimalMath.clearConstantCaches();
+		assertEquals(new BigDecimal("2.302585092994046"), BigDecimalMath.log(BigDecimal.TEN, new MathContext(16)));
+		assertEquals(new BigDecimal("2.302585092994045"), BigDecimalMath.log(BigDecimal.TEN, new MathContext(16, RoundingMode.DOWN)));
+		assertEquals(new BigDecimal("1.41421356237309505"), BigDecimalMath.sqrt(BigDecimal.valueOf(2), new MathContext(18)));
+		assertEquals(new BigDecimal("1.41421356237309504"), BigDecimalMath.sqrt(BigDecimal.valueOf(2), new MathContext(18, RoundingMode.DOWN)));
+		BigDecimalMath.clearConstantCaches();
+		assertEquals(new BigDecimal("1.4142135623730950"), BigDecimalMath.sqrt(BigDecimal.valueOf(2), new MathContext(17)));
+		assertEquals(BigDecimalMath.pi(new MathContext(260)).round(new MathContext(251)), BigDecimalMath.pi(new MathContext(251)));
+		assertTrue(BigDecimalMath.pi(new MathContext(251)).toString().endsWith("019091"));
+	}
+
+	@Test
+	public void testEmbeddedConstantsSlicedAllPrecisions() {
+		ConstantStore embedded = ConstantStore.getEmbedded();
+		// the constants are positive, FLOOR and CEILING round like DOWN and UP
+		RoundingMode[] roundingModes = { RoundingMode.HALF_EVEN, RoundingMode.HALF_UP, RoundingMode.DOWN, RoundingMode.UP };
+
+		for (String name : new String[] { "pi", "halfPi", "e", "sqrt2", "log2", "log3", "log10" }) {
+			BigDecimal full = embedded.load(name, 5000);
+			assertEquals(5000, full.precision());
+
+			// rounding the full value directly is slow, instead it is cut after one digit more than the precision
+			// and a last digit 1 is appended if any of the cut digits is not 0, which rounds exactly like the full value
+			String digits = full.unscaledValue().toString();
+			boolean[] nonZeroFrom = new boolean[digits.length() + 1];
+			for (int i = digits.length() - 1; i >= 0; i--) {
+				nonZeroFrom[i] = nonZeroFrom[i + 1] || digits.charAt(i) != '0';
+			}
+
+			BigInteger leadingDigits = BigInteger.valueOf(digits.charAt(0) - '0');
+			for (int precision = 1; precision < 5000; precision++) {
+				leadingDigits = leadingDigits.multiply(BigInteger.TEN).add(BigInteger.valueOf(digits.charAt(precision) - '0'));
+				BigInteger stickyDigit = nonZeroFrom[precision + 1] ? BigInteger.ONE : BigInteger.ZERO;
+				BigDecimal expected = new BigDecimal(leadingDigits.multiply(BigInteger.TEN).add(stickyDigit), full.scale() - digits.length() + precision + 2);
+
+				BigDecimal slice = embedded.load(name, precision);
+				for (RoundingMode roundingMode : roundingModes) {
+					MathContext mathContext = new MathContext(precision, roundingMode);
+					assertEquals(name + " " + mathContext, expected.round(mathContext), slice.round(mathContext));
+				}
+			}
+		}
+
+		// through the warm caches every rounding mode is rounded from the same cached value
+		RoundingMode[] mixedRoundingModes = { RoundingMode.HALF_EVEN, RoundingMode.DOWN, RoundingMode.UP, RoundingMode.HALF_EVEN };
+		BigDecimalMath.clearConstantCaches();
+		for (int precision = 1; precision <= 5000; precision++) {
+			for (RoundingMode roundingMode : mixedRoundingModes) {
+				MathContext mathContext = new MathContext(precision, roundingMode);
+				assertEquals(embedded.load("pi", precision).round(mathContext), BigDecimalMath.pi(mathContext));
+				assertEquals(embedded.load("sqrt2", precision).round(mathContext), BigDecimalMath.sqrt(BigDecimal.valueOf(2), mathContext));
+			}
+		}
+		for (int precision = 5000; precision >= 1; precision -= 7) {
+			for (RoundingMode roundingMode : mixedRoundingModes) {
+				MathContext mathContext = new MathContext(precision, roundingMode);
+				assertEquals(embedded.load("log10", precision).round(mathContext), BigDecimalMath.log(BigDecimal.TEN, mathContext));
+			}
+		}
+
+		// calculated values above the embedded precision
+		BigDecimal sqrt2 = BigDecimalMath.sqrt(BigDecimal.valueOf(8), new MathContext(5150)).divide(BigDecimal.valueOf(2));
+		for (RoundingMode roundingMode : mixedRoundingModes) {
+			MathContext mathContext = new MathContext(5100, roundingMode);
+			assertEquals(sqrt2.round(mathContext), BigDecimalMath.sqrt(BigDecimal.valueOf(2), mathContext));
+		}
+		BigDecimalMath.clearConstantCaches();
+	}
+
+	@Test
+	public void testConstantStore() throws IOException {
+		Path directory = Files.createTempDirectory("constants");
+		try {
+			BigDecimalMath.enableConstantStore(directory);
+			BigDecimalMath.clearConstantCaches();
+
+			// precisions covered by the embedded constants do not access the store
+			BigDecimalMath.pi(new MathContext(500));
+			Path piPath = directory.resolve("pi.bin");
+			assertFalse(Files.exists(piPath));
+
+			BigDecimal expectedPi = BigDecimalMath.pi(new MathContext(6000));
+			assertTrue(Files.isRegularFile(piPath));
+
+			// sliced from the stored value
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(expectedPi.round(new MathContext(5500)), BigDecimalMath.pi(new MathContext(5500)));
+			assertEquals(expectedPi, BigDecimalMath.pi(new MathContext(6000)));
+
+			// a stored value is used instead of calculating it
+			BigDecimal fakeE = new BigDecimal("2." + createDigits(5999, 20));
+			new ConstantStore(directory).save("e", fakeE);
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(fakeE.round(new MathContext(5100)), BigDecimalMath.e(new MathContext(5100)));
+			assertEquals(fakeE, BigDecimalMath.e(new MathContext(6000)));
+
+			// the truncated slice must be rounded exactly once and must not be cached for higher precisions
+			BigDecimal boundaryE = new BigDecimal("2." + String.join("", Collections.nCopies(244, "4999999999999999999999999")));
+			new ConstantStore(directory).save("e", boundaryE);
+			BigDecimalMath.enableConstantStore(directory);
+			BigDecimalMath.clearConstantCaches();
+			for (int precision = 5100; precision <= 5150; precision++) {
+				assertEquals(boundaryE.round(new MathContext(precision)), BigDecimalMath.e(new MathContext(precision)));
+			}
+			assertEquals(boundaryE.round(new MathContext(5120, RoundingMode.DOWN)), new ConstantStore(directory).load("e", 5120).round(new MathContext(5120, RoundingMode.DOWN)));
+
+			// a corrupt file is ignored and replaced
+			byte[] bytes = Files.readAllBytes(piPath);
+			bytes[bytes.length / 2] ^= 1;
+			Files.write(piPath, bytes);
+			BigDecimalMath.enableConstantStore(directory);
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(expectedPi.round(new MathContext(5500)), BigDecimalMath.pi(new MathContext(5500)));
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(expectedPi.round(new MathContext(5200)), new ConstantStore(directory).load("pi", 5200).round(new MathContext(5200)));
+
+			// the constants of the factorial are stored as a list
+			MathContext factorialMathContext = new MathContext(80);
+			BigDecimal expectedFactorial = BigDecimalMath.factorial(new BigDecimal("2.5"), factorialMathContext);
+			List<BigDecimal> expectedConstants = BigDecimalMath.exportFactorialConstants(factorialMathContext);
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(expectedConstants, new ConstantStore(directory).loadAll("spouge-" + expectedConstants.size()));
+			assertEquals(expectedFactorial, BigDecimalMath.factorial(new BigDecimal("2.5"), factorialMathContext));
+		} finally {
+			BigDecimalMath.disableConstantStore();
+			BigDecimalMath.clearConstantCaches();
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+				for (Path file : files) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	public void testConstantStoreOversizedFile() throws IOException {
+		Path directory = Files.createTempDirectory("constants");
+		Path piPath = directory.resolve("pi.bin");
+		try {
+			// a sparse file that is too large to be mapped is ignored
+			try (RandomAccessFile file = new RandomAccessFile(piPath.toFile(), "rw")) {
+				file.setLength(Integer.MAX_VALUE + 1L);
+			}
+			assertEquals(null, new ConstantStore(directory).load("pi", 5100));
+
+			BigDecimalMath.enableConstantStore(directory);
+			BigDecimalMath.clearConstantCaches();
+			assertEquals(BigDecimalMath.pi(new MathContext(5200)).round(new MathContext(5100)), BigDecimalMath.pi(new MathContext(5100)));
+		} finally {
+			BigDecimalMath.disableConstantStore();
+			BigDecimalMath.clearConstantCaches();
+			try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+				for (Path file : files) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testFactorialIntNegative() {
 		BigDecimalMath.factorial(-1);
@@ -559,6 +1131,75 @@ public class BigDecimalMathTest {
 		   10);
 	}
 
+	@Test
+	public void testGammaLargeArgument() {
+		// gamma(n+1/2) = (2n)! / (4^n * n!) * sqrt(pi)
+		for (int n : new int[] { 60, 100, 1000 }) {
+			MathContext mc = new MathContext(200);
+			BigDecimal expected = BigDecimalMath.factorial(2 * n)
+					.divide(BigDecimal.valueOf(4).pow(n).multiply(BigDecimalMath.factorial(n)), mc)
+					.multiply(BigDecimalMath.sqrt(BigDecimalMath.pi(mc), mc), mc);
+			assertBigDecimal("gamma(" + n + ".5)", expected.round(MC), BigDecimalMath.gamma(new BigDecimal(n + ".5"), MC), MC);
+		}
+	}
+
+	@Test
+	public void testGammaStirlingThreshold() {
+		// the Stirling series is used without shifting from about 0.37 * precision on
+		MathContext mathContext = new MathContext(300);
+		MathContext mc = new MathContext(340);
+		for (int n : new int[] { 100, 110, 112, 113, 115, 120, 150, 300 }) {
+			BigDecimal x = new BigDecimal(n + ".5");
+			BigDecimal expected = new BigDecimal(BigDecimalMath.factorial(2 * n).toBigInteger())
+					.divide(new BigDecimal(BigInteger.valueOf(4).pow(n).multiply(BigDecimalMath.factorial(n).toBigInteger())), mc)
+					.multiply(BigDecimalMath.sqrt(BigDecimalMath.pi(mc), mc), mc);
+			assertEquals("gamma(" + x + ")", expected.round(mathContext), BigDecimalMath.gamma(x, mathContext));
+			assertEquals("logGamma(" + x + ")", BigDecimalMath.log(expected, mc).round(mathContext), BigDecimalMath.logGamma(x, mathContext));
+		}
+	}
+
+	@Test
+	public void testLogGamma() {
+		for (String x : new String[] { "0.001", "0.5", "1.0001", "1.5", "1.9999", "3.7", "10", "50.5", "1000.25" }) {
+			MathContext mc = new MathContext(MC.getPrecision() + 10);
+			BigDecimal expected = BigDecimalMath.log(BigDecimalMath.gamma(new BigDecimal(x), mc), mc);
+			assertBigDecimal("logGamma(" + x + ")", expected.round(MC), BigDecimalMath.logGamma(new BigDecimal(x), MC), MC);
+		}
+	}
+
+	@Test
+	public void testLogGammaOneAndTwo() {
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(BigDecimal.ONE, MC));
+		assertEquals(BigDecimal.ZERO, BigDecimalMath.logGamma(new BigDecimal("2.000"), MC));
+	}
+
+	@Test
+	public void testLogGammaLargeArgument() {
+		// log(gamma(n+1/2)) = log((2n)! / (4^n * n!) * sqrt(pi))
+		int n = 10000;
+		MathContext mc = new MathContext(MC.getPrecision() + 10);
+		BigDecimal expected = BigDecimalMath.log(BigDecimalMath.factorial(2 * n), mc)
+				.subtract(BigDecimalMath.log(BigDecimal.valueOf(4), mc).multiply(BigDecimal.valueOf(n)))
+				.subtract(BigDecimalMath.log(BigDecimalMath.factorial(n), mc))
+				.add(BigDecimalMath.log(BigDecimalMath.pi(mc), mc).divide(BigDecimal.valueOf(2)));
+		assertBigDecimal("logGamma(10000.5)", expected.round(MC), BigDecimalMath.logGamma(new BigDecimal("10000.5"), MC), MC);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogGammaZero() {
+		BigDecimalMath.logGamma(BigDecimal.ZERO, MC);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLogGammaNegative() {
+		BigDecimalMath.logGamma(new BigDecimal("-1.5"), MC);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testLogGammaUnlimitedFail() {
+		BigDecimalMath.logGamma(new BigDecimal("1.5"), MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testGammaIntegerValues() {
 		assertEquals(BigDecimalMath.round(new BigDecimal(1), MC), BigDecimalMath.gamma(BigDecimal.valueOf(1), MC));
@@ -569,6 +1210,48 @@ public class BigDecimalMathTest {
 		assertEquals(BigDecimalMath.round(new BigDecimal(120), MC), BigDecimalMath.gamma(BigDecimal.valueOf(6), MC));
 	}
 
+	@Test
+	public void testGammaMultiThreaded() throws Throwable {
+		// Result from wolframalpha.com: gamma(1.5)
+		BigDecimal expected = new BigDecimal("0.886226925452758013649083741670572591398774728061193564106903894926455642295516090687475328369272332708113411812");
+		// every thread calculates the same fixed precisions, starting with a different one
+		AtomicInteger threadIndex = new AtomicInteger();
+		runMultiThreaded(() -> {
+			int start = threadIndex.getAndIncrement();
+			for (int i = 0; i < 4; i++) {
+				MathContext mathContext = new MathContext(40 + (start + i) % 4);
+				assertEquals(expected.round(mathContext), BigDecimalMath.gamma(new BigDecimal("1.5"), mathContext));
+			}
+		});
+	}
+
+	@Test
+	public void testExportImportFactorialConstants() {
+		MathContext mathContext = new MathContext(37);
+		List<BigDecimal> constants = BigDecimalMath.exportFactorialConstants(mathContext);
+		BigDecimal expected = BigDecimalMath.gamma(new BigDecimal("1.5"), mathContext);
+
+		List<BigDecimal> stored = new ArrayList<>();
+		for (BigDecimal constant : constants) {
+			stored.add(new BigDecimal(constant.toString()));
+		}
+		BigDecimalMath.importFactorialConstants(stored, mathContext);
+
+		assertEquals(constants, BigDecimalMath.exportFactorialConstants(mathContext));
+		assertEquals(expected, BigDecimalMath.gamma(new BigDecimal("1.5"), mathContext));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testImportFactorialConstantsWrongSize() {
+		List<BigDecimal> constants = BigDecimalMath.exportFactorialConstants(new MathContext(30));
+		BigDecimalMath.importFactorialConstants(constants, new MathContext(31));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testExportFactorialConstantsUnlimitedFail() {
+		BigDecimalMath.exportFactorialConstants(MathContext.UNLIMITED);
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testPowIntZeroPowerNegative() {
 		BigDecimalMath.pow(BigDecimal.valueOf(0), -5, MC);
@@ -799,6 +1482,54 @@ public class BigDecimalMathTest {
 				10);
 	}
 
+	@Test
+	public void testSqrtHighAccuracyHalf() {
+		// sqrt(0.5) = sqrt(2) / 2 is not taken from the cached constant
+		BigDecimal expected = BigDecimalMath.sqrt(BigDecimal.valueOf(2), new MathContext(1100)).divide(BigDecimal.valueOf(2));
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.sqrt(new BigDecimal("0.5"), mathContext),
+				10);
+	}
+
+	@Test
+	public void testSqrtHighPrecision() {
+		Random random = new Random(1234);
+		BigDecimal longMantissa = new BigDecimal(createDigits(30000, 42)).movePointLeft(29999);
+		for (int precision : new int[] { 300, 1000, 5000, 20000 }) {
+			MathContext mathContext = new MathContext(precision);
+			BigDecimal randomMantissa = new BigDecimal(new BigInteger(precision * 4, random)).movePointLeft(precision);
+			for (BigDecimal x : new BigDecimal[] { new BigDecimal("10005"), new BigDecimal("0.5"), new BigDecimal("3.3E-1001"), new BigDecimal("7E+2000"), randomMantissa, longMantissa }) {
+				BigDecimal result = BigDecimalMath.sqrt(x, mathContext);
+				BigDecimal ulp = result.ulp();
+				BigDecimal lower = result.subtract(ulp);
+				BigDecimal upper = result.add(ulp);
+				assertTrue("sqrt(x) precision=" + precision, lower.multiply(lower).compareTo(x) < 0);
+				assertTrue("sqrt(x) precision=" + precision, upper.multiply(upper).compareTo(x) > 0);
+			}
+		}
+	}
+
+	@Test
+	public void testSqrtHighPrecisionSquare() {
+		BigDecimal value = new BigDecimal(createDigits(2000, 7)).movePointLeft(1000);
+		BigDecimal square = value.multiply(value);
+		assertEquals(0, value.compareTo(BigDecimalMath.sqrt(square, new MathContext(3000))));
+		assertEquals(value.round(new MathContext(500)), BigDecimalMath.sqrt(square, new MathContext(500)));
+		assertEquals(0, new BigDecimal("1.2E+1000").compareTo(BigDecimalMath.sqrt(new BigDecimal("1.44E+2000"), new MathContext(1000))));
+
+		// the representation of exact square roots does not depend on the algorithm used for the precision
+		for (String x : new String[] { "4", "4.00", "400", "0.0004", "1.44", "15241578753238669120562399025" }) {
+			BigDecimal expected = BigDecimalMath.sqrt(new BigDecimal(x), new MathContext(100));
+			assertEquals(expected, BigDecimalMath.sqrt(new BigDecimal(x), new MathContext(299)));
+			assertEquals(expected, BigDecimalMath.sqrt(new BigDecimal(x), new MathContext(300)));
+			assertEquals(expected, BigDecimalMath.sqrt(new BigDecimal(x), new MathContext(1000)));
+		}
+		assertEquals(new BigDecimal("2.0"), BigDecimalMath.sqrt(new BigDecimal("4"), new MathContext(300)));
+		assertEquals(299, BigDecimalMath.sqrt(new BigDecimal("1.44E+2000"), new MathContext(299)).precision());
+		assertEquals(300, BigDecimalMath.sqrt(new BigDecimal("1.44E+2000"), new MathContext(300)).precision());
+	}
+
 	@Test
 	public void testSqrtHuge() {
 		// Result from wolframalpha.com: sqrt(1e399)
@@ -806,6 +1537,13 @@ public class BigDecimalMathTest {
 		assertEquals(expected.round(MC), BigDecimalMath.sqrt(new BigDecimal("1E399"), MC));
 	}
 
+	@Test
+	public void testSqrtTiny() {
+		// Result from wolframalpha.com: sqrt(2e-401)
+		BigDecimal expected = new BigDecimal("4.4721359549995793928183473374625524708812367192230514E-201");
+		assertEquals(expected.round(MC), BigDecimalMath.sqrt(new BigDecimal("2E-401"), MC));
+	}
+
 	@Test
 	public void testSqrtRandom() {
 		assertRandomCalculation(
@@ -920,6 +1658,67 @@ public class BigDecimalMathTest {
 		BigDecimalMath.root(new BigDecimal(-1), BigDecimal.ONE, MC);
 	}
 
+	@Test
+	public void testRootInt() {
+		for (int n : new int[] { 1, 2, 3, 5, 10, 123, 12345 }) {
+			for (String x : new String[] { "0.1", "0.9", "1", "1.1", "2", "10", "1234.5678", "1E-50", "3.3E+80", "0.12345678901234567890123456789012345678901234567890" }) {
+				for (int precision = 1; precision <= 301; precision += 50) {
+					MathContext mathContext = new MathContext(precision);
+					MathContext mc = new MathContext(precision + 20);
+					BigDecimal value = new BigDecimal(x);
+					BigDecimal expected = BigDecimalMath.exp(BigDecimalMath.log(value, mc).divide(BigDecimal.valueOf(n), mc), mc);
+					assertBigDecimal("root(" + x + ", " + n + ")", expected, BigDecimalMath.root(value, n, mathContext), mathContext);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRootIntPerfectPower() {
+		MathContext mathContext = new MathContext(100);
+		assertEquals(new BigDecimal("1.2"), BigDecimalMath.root(new BigDecimal("1.728"), 3, mathContext));
+		assertEquals(new BigDecimal("2"), BigDecimalMath.root(new BigDecimal("1024"), 10, mathContext));
+		assertEquals(new BigDecimal("0.02"), BigDecimalMath.root(new BigDecimal("3.2E-9"), 5, mathContext));
+		assertEquals(new BigDecimal("2"), BigDecimalMath.root(BigDecimal.valueOf(2).pow(100), 100, mathContext));
+		assertEquals(new BigDecimal("3E+7"), BigDecimalMath.root(new BigDecimal("8.1E+29"), 4, mathContext));
+
+		BigDecimal root = new BigDecimal("123456789012345678901234567890.12345678901234567890");
+		assertEquals(root.stripTrailingZeros(), BigDecimalMath.root(root.pow(7), 7, mathContext));
+		assertEquals(root.round(new MathContext(20)), BigDecimalMath.root(root.pow(7), 7, new MathContext(20)));
+	}
+
+	@Test
+	public void testRootIntHighAccuracy() {
+		// Result from the exact integer cube root of 2 * 10^1557
+		BigDecimal expected = BigDecimalMath.toBigDecimal("1.259921049894873164767210607278228350570251464701507980081975112155299676513959483729396562436255094154310256035615665259399024040613737228459110304269355246960642616625000977474526565480306867185405518689245872516764199373709695098382783161399155129313695366183947463448576570303119095895984741105981162907053590816478011473521325484771297880242208582053257972526662202669005665608199471562817640506066482677357267041948620762144296569420507931917244148092044823284012747032196428208120190571418899645999831750380188868");
+		assertPrecisionCalculation(
+				expected,
+				mathContext -> BigDecimalMath.root(BigDecimal.valueOf(2), 3, mathContext),
+				10);
+	}
+
+	@Test
+	public void testRootIntMatchesRoot() {
+		MathContext mathContext = new MathContext(200);
+		BigDecimal x = new BigDecimal("123.456");
+		assertEquals(BigDecimalMath.root(x, 7, mathContext), BigDecimalMath.root(x, BigDecimal.valueOf(7), mathContext));
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testRootIntZeroN() {
+		BigDecimalMath.root(BigDecimal.ONE, 0, MC);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testRootIntNegativeX() {
+		BigDecimalMath.root(new BigDecimal(-8), 3, MC);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testRootIntUnlimitedFail() {
+		BigDecimalMath.root(BigDecimal.valueOf(1.2), 3, MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testLogRange10() {
 		double step = getRangeStep(0.1);
@@ -1009,6 +1808,20 @@ public class BigDecimalMathTest {
 		assertEquals(expected.round(MC), BigDecimalMath.log(new BigDecimal("1E399"), MC));
 	}
 
+	@Test
+	public void testLogHighPrecisionCloseToOne() {
+		BigDecimal x = new BigDecimal("1.0000000000000000000123");
+		BigDecimal y = new BigDecimal("123.456");
+		for (int precision = 100; precision <= 1000; precision += 150) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			assertBigDecimal("precision=" + precision,
+					BigDecimalMath.log(x.multiply(y), mc).round(mathContext),
+					BigDecimalMath.log(x, mc).add(BigDecimalMath.log(y, mc), mathContext),
+					mathContext);
+		}
+	}
+
 	@Test
 	public void testLog10WithPositivePowersOfTen() {
 		MathContext mathContext = new MathContext(50);		
@@ -1126,6 +1939,32 @@ public class BigDecimalMathTest {
 				60);
 	}
 
+	@Test
+	public void testExpShortMantissa() {
+		for (int precision = 1; precision <= 1001; precision+=50) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			BigDecimal e = BigDecimalMath.e(mc);
+			assertBigDecimal("exp(0.5)^2", e.round(mathContext), BigDecimalMath.exp(new BigDecimal("0.5"), mc).pow(2, mathContext), mathContext);
+			assertBigDecimal("exp(-1)", BigDecimal.ONE.divide(e, mathContext), BigDecimalMath.exp(new BigDecimal("-1"), mathContext), mathContext);
+			assertBigDecimal("exp(7)", e.pow(7, mathContext), BigDecimalMath.exp(new BigDecimal("7"), mathContext), mathContext);
+		}
+	}
+
+	@Test
+	public void testExpLargeArgument() {
+		for (int precision = 1; precision <= 301; precision += 50) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			for (String value : new String[] { "1000.123456789012345678901234567890", "-98765.4321098765432109876543", "1234567.891" }) {
+				BigDecimal x = new BigDecimal(value);
+				assertBigDecimal("exp(" + value + ") * exp(-" + value + ")", BigDecimal.ONE, BigDecimalMath.exp(x, mc).multiply(BigDecimalMath.exp(x.negate(), mc), mathContext), mathContext);
+			}
+			BigDecimal x = new BigDecimal("1000.123456789012345678901234567890");
+			assertBigDecimal("log(exp(x))", x.round(mathContext), BigDecimalMath.log(BigDecimalMath.exp(x, mc), mathContext), mathContext);
+		}
+	}
+
 	@Test
 	public void testExpRandom() {
 		assertRandomCalculation(
@@ -1179,6 +2018,27 @@ public class BigDecimalMathTest {
 		runMultiThreaded(() -> testSinRandom(10));
 	}
 
+	@Test
+	public void testSinCosLargeArgument() {
+		MathContext mathContext = new MathContext(50);
+		BigDecimal twoPi = BigDecimalMath.pi(new MathContext(300)).multiply(BigDecimal.valueOf(2));
+		BigDecimal x = new BigDecimal("0.5").add(twoPi.multiply(new BigDecimal("1E20")));
+
+		assertBigDecimal("sin(0.5 + 2pi*10^20)", BigDecimalMath.sin(new BigDecimal("0.5"), mathContext), BigDecimalMath.sin(x, mathContext), mathContext);
+		assertBigDecimal("cos(0.5 + 2pi*10^20)", BigDecimalMath.cos(new BigDecimal("0.5"), mathContext), BigDecimalMath.cos(x, mathContext), mathContext);
+	}
+
+	@Test
+	public void testSinCosCloseToHalfPi() {
+		MathContext mathContext = new MathContext(50);
+		BigDecimal halfPi = BigDecimalMath.pi(new MathContext(300)).divide(BigDecimal.valueOf(2));
+		BigDecimal x = halfPi.round(new MathContext(100));
+
+		// cos(pi/2 - d) = sin(pi - d) = sin(d) = d for very small d
+		assertBigDecimal("cos(x)", halfPi.subtract(x).round(mathContext), BigDecimalMath.cos(x, mathContext), mathContext);
+		assertBigDecimal("sin(x + pi/2)", halfPi.subtract(x).round(mathContext), BigDecimalMath.sin(x.add(halfPi), mathContext), mathContext);
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void testSinUnlimitedFail() {
 		BigDecimalMath.sin(BigDecimal.valueOf(2), MathContext.UNLIMITED);
@@ -1274,6 +2134,24 @@ public class BigDecimalMathTest {
 		BigDecimalMath.cos(BigDecimal.valueOf(2), MathContext.UNLIMITED);
 	}
 
+	@Test
+	public void testSinCos() {
+		for(double value : new double[] { -1000.5, -10, -5, -2.3, -1, -0.3, 0, 0.1, 0.7853, 0.7854, 2, 3.14159, 10, 20, 222 }) {
+			for (int precision = 1; precision <= 301; precision += 30) {
+				MathContext mathContext = new MathContext(precision);
+				BigDecimal x = BigDecimal.valueOf(value);
+				BigDecimal[] sinCos = BigDecimalMath.sinCos(x, mathContext);
+				assertBigDecimal("sin(" + value + ")", BigDecimalMath.sin(x, mathContext), sinCos[0], mathContext);
+				assertBigDecimal("cos(" + value + ")", BigDecimalMath.cos(x, mathContext), sinCos[1], mathContext);
+			}
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSinCosUnlimitedFail() {
+		BigDecimalMath.sinCos(BigDecimal.valueOf(2), MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testAcosRandom() {
 		testAcosRandom(100);
@@ -1371,6 +2249,18 @@ public class BigDecimalMathTest {
 		runMultiThreaded(() -> testAtanRandom(10));
 	}
 
+	@Test
+	public void testAtanHighPrecision() {
+		for (int precision = 1; precision <= 1001; precision += 50) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			BigDecimal pi = BigDecimalMath.pi(mc);
+			assertBigDecimal("atan(1)", pi.divide(BigDecimal.valueOf(4), mathContext), BigDecimalMath.atan(BigDecimal.ONE, mathContext), mathContext);
+			assertBigDecimal("atan(-sqrt(3))", pi.divide(BigDecimal.valueOf(-3), mathContext), BigDecimalMath.atan(BigDecimalMath.sqrt(BigDecimal.valueOf(3), mc).negate(), mathContext), mathContext);
+			assertBigDecimal("atan(2 - sqrt(3))", pi.divide(BigDecimal.valueOf(12), mathContext), BigDecimalMath.atan(BigDecimal.valueOf(2).subtract(BigDecimalMath.sqrt(BigDecimal.valueOf(3), mc)), mathContext), mathContext);
+		}
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testAtan2ZeroZero() {
 		BigDecimalMath.atan2(BigDecimal.ZERO, BigDecimal.ZERO, MC);
@@ -1466,6 +2356,90 @@ public class BigDecimalMathTest {
 		runMultiThreaded(() -> testSinhRandom(10));
 	}
 
+	@Test
+	public void testSinhCoshHighPrecision() {
+		BigDecimal x = new BigDecimal("0.7123456789012345678901234567890123456789");
+		for (int precision = 100; precision <= 1000; precision += 100) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			BigDecimal sinh = BigDecimalMath.sinh(x, mc);
+			BigDecimal cosh = BigDecimalMath.cosh(x, mc);
+			assertBigDecimal("cosh(x)^2 - sinh(x)^2", BigDecimal.ONE, cosh.multiply(cosh).subtract(sinh.multiply(sinh)), mathContext);
+			assertBigDecimal("sinh(x) + cosh(x)", BigDecimalMath.exp(x, mathContext), sinh.add(cosh), mathContext);
+		}
+	}
+
+	@Test
+	public void testSinCosHighPrecision() {
+		// sin and cos of small arguments are calculated by the taylor series using rectangular splitting
+		// Result from python decimal (taylor series with 1100 digits): sin(0.7123456789012345678901234567890123456789)
+		BigDecimal expectedSin = new BigDecimal("0.6536108495800957266040454469992278006058998200020178772423282129319183334452764110662878962447397664621491715585636355141980260628631847782908501885840547902563989441111250590243763974497271885788818279396763932147126661836019702223277736936299758553869895530542416143718585124129340611549974067386969655980177452885844327074494910663503346268118312360804315676508618793809849766654486548629403362973618090588465398172971302759366601820298210159949823332342887234641739825173555248867045178000047270238951323657827707564694676765583525941028182358548489461475841691314286446555482548806311818759089236325547296118033777500081856573071712699626560833233425869421720703516701377028940372278915009895397380428283763559656246514512551177689598765005674194169032939904095236665131851266055452783672078423072218867077068087355259428830179833309011194437042657572540997890728739756650003444041382780166936526723037655549515876912049735229670136371694149935742508614685621421100441030765368864636703528702507");
+		BigDecimal x = new BigDecimal("0.7123456789012345678901234567890123456789");
+		for (int precision = 100; precision <= 1000; precision += 100) {
+			MathContext mathContext = new MathContext(precision);
+			MathContext mc = new MathContext(precision + 10);
+			assertEquals(expectedSin.round(mathContext), BigDecimalMath.sin(x, mathContext));
+			BigDecimal sin = BigDecimalMath.sin(x, mc);
+			BigDecimal cos = BigDecimalMath.cos(x, mc);
+			assertBigDecimal("sin(x)^2 + cos(x)^2", BigDecimal.ONE, sin.multiply(sin).add(cos.multiply(cos)), mathContext);
+		}
+	}
+
+	@Test
+	public void testSinhCosh() {
+		for(double value : new double[] { -50, -10, -2.3, -1, -0.5, -0.3, 0, 0.001, 0.1, 0.4999, 0.5, 0.7, 2, 10, 222 }) {
+			for (int precision = 1; precision <= 301; precision += 30) {
+				MathContext mathContext = new MathContext(precision);
+				BigDecimal x = BigDecimal.valueOf(value);
+				BigDecimal[] sinhCosh = BigDecimalMath.sinhCosh(x, mathContext);
+				assertBigDecimal("sinh(" + value + ")", BigDecimalMath.sinh(x, mathContext), sinhCosh[0], mathContext);
+				assertBigDecimal("cosh(" + value + ")", BigDecimalMath.cosh(x, mathContext), sinhCosh[1], mathContext);
+			}
+		}
+	}
+
+	@Test
+	public void testSinhCoshSmallArgument() {
+		MathContext mathContext = new MathContext(100);
+		MathContext mc = new MathContext(300);
+		for (String value : new String[] { "1E-5", "-1.234E-30", "1E-99", "1E-150" }) {
+			BigDecimal x = new BigDecimal(value);
+			// sinh(x) = x + x^3/6 + x^5/120 + ...  and  cosh(x) = 1 + x^2/2 + x^4/24 + ...
+			BigDecimal x2 = x.multiply(x);
+			BigDecimal expectedSinh = x.add(x.multiply(x2).divide(BigDecimal.valueOf(6), mc)).add(x.multiply(x2).multiply(x2).divide(BigDecimal.valueOf(120), mc));
+			BigDecimal expectedCosh = BigDecimal.ONE.add(x2.divide(BigDecimal.valueOf(2), mc)).add(x2.multiply(x2).divide(BigDecimal.valueOf(24), mc));
+			if (x.abs().compareTo(new BigDecimal("1E-10")) > 0) {
+				expectedSinh = BigDecimalMath.sinh(x, mc);
+				expectedCosh = BigDecimalMath.cosh(x, mc);
+			}
+			BigDecimal[] sinhCosh = BigDecimalMath.sinhCosh(x, mathContext);
+			assertEquals("sinh(" + value + ")", 0, expectedSinh.round(mathContext).compareTo(sinhCosh[0]));
+			assertEquals("cosh(" + value + ")", 0, expectedCosh.round(mathContext).compareTo(sinhCosh[1]));
+			assertEquals("tanh(" + value + ")", 0, expectedSinh.divide(expectedCosh, mc).round(mathContext).compareTo(BigDecimalMath.tanh(x, mathContext)));
+		}
+	}
+
+	@Test
+	public void testSinhCoshLargeArgument() {
+		MathContext mathContext = new MathContext(200);
+		BigDecimal x = new BigDecimal("1234.5");
+		BigDecimal exp = BigDecimalMath.exp(x, new MathContext(220));
+		BigDecimal halfExp = exp.divide(BigDecimal.valueOf(2));
+
+		// exp(-x) is far below the precision
+		BigDecimal[] sinhCosh = BigDecimalMath.sinhCosh(x, mathContext);
+		assertEquals(halfExp.round(mathContext), sinhCosh[0]);
+		assertEquals(halfExp.round(mathContext), sinhCosh[1]);
+		assertEquals(halfExp.negate().round(mathContext), BigDecimalMath.sinh(x.negate(), mathContext));
+		assertEquals(BigDecimal.ONE, BigDecimalMath.tanh(x, mathContext));
+		assertEquals(BigDecimal.ONE.negate(), BigDecimalMath.coth(x.negate(), mathContext));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSinhCoshUnlimitedFail() {
+		BigDecimalMath.sinhCosh(BigDecimal.valueOf(2), MathContext.UNLIMITED);
+	}
+
 	@Test
 	public void testAsinhRandom() {
 		testAsinhRandom(100);
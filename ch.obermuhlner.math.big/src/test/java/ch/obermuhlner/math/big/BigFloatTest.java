@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
@@ -194,6 +195,16 @@ public class BigFloatTest {
 		assertEquals("-1.234", context.valueOf(-1.234).toString());
 	}
 
+	@Test
+	public void testWrite() throws IOException {
+		Context context = context(MathContext.DECIMAL32);
+		for (BigFloat value : Arrays.asList(context.valueOf(0), context.valueOf(0.0), context.valueOf(-1.234), context.valueOf("1.234E-20"), NaN, POSITIVE_INFINITY, NEGATIVE_INFINITY)) {
+			StringBuilder result = new StringBuilder();
+			value.write(result);
+			assertEquals(value.toString(), result.toString());
+		}
+	}
+
 	@Test
 	public void testPi() {
 		Context context = context(MathContext.DECIMAL32);
@@ -6,6 +6,7 @@ import static ch.obermuhlner.math.big.BigRational.bernoulli;
 import static ch.obermuhlner.math.big.BigRational.max;
 import static ch.obermuhlner.math.big.BigRational.min;
 import static ch.obermuhlner.math.big.BigRational.valueOf;
+import static ch.obermuhlner.util.ThreadUtil.runMultiThreaded;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
@@ -363,6 +364,23 @@ public class BigRationalTest {
 		assertEquals("1", valueOf(4, 4).toPlainString());
 	}
 
+	/**
+	 * Tests {@link BigRational#write(Appendable)} and {@link BigRational#writePlain(Appendable)}.
+	 */
+	@Test
+	public void testWrite() throws IOException {
+		BigRational[] values = { valueOf(0), valueOf(123), valueOf(-123), valueOf(1, 4), valueOf(2, 3), valueOf(-2, 3), valueOf(4, 2), valueOf("1E+40"), valueOf("1.5E-20") };
+		for (BigRational value : values) {
+			StringBuilder result = new StringBuilder();
+			value.write(result);
+			assertEquals(value.toString(), result.toString());
+
+			StringBuilder plainResult = new StringBuilder();
+			value.writePlain(plainResult);
+			assertEquals(value.toPlainString(), plainResult.toString());
+		}
+	}
+
 	/**
 	 * Tests {@link BigRational#toDouble()}.
 	 */
@@ -868,6 +886,43 @@ public class BigRationalTest {
 		assertEquals("43867/798", bernoulli(18).reduce().toRationalString());
 	}
 
+	@Test
+	public void testBernoulliRecurrence() {
+		// sum(binomial(m+1, j) * B(j), j=0..m) = 0
+		for (int m : new int[] { 50, 101, 200 }) {
+			BigRational sum = ZERO;
+			BigInteger binomial = BigInteger.ONE;
+			for (int j = 0; j <= m; j++) {
+				sum = sum.add(bernoulli(j).multiply(binomial));
+				binomial = binomial.multiply(BigInteger.valueOf(m + 1 - j)).divide(BigInteger.valueOf(j + 1));
+			}
+			assertTrue("m=" + m, sum.isZero());
+		}
+	}
+
+	@Test
+	public void testBernoulliDenominator() {
+		// von Staudt-Clausen: the denominator of B(2k) is the product of all primes p with (p-1) dividing 2k
+		for (int n = 2; n <= 300; n += 2) {
+			BigInteger expected = BigInteger.ONE;
+			for (int p = 2; p <= n + 1; p++) {
+				if (n % (p - 1) == 0 && BigInteger.valueOf(p).isProbablePrime(20)) {
+					expected = expected.multiply(BigInteger.valueOf(p));
+				}
+			}
+			assertEquals("n=" + n, expected, bernoulli(n).reduce().getDenominatorBigInteger());
+		}
+	}
+
+	@Test
+	public void testBernoulliMultiThreaded() throws Throwable {
+		BigRational expected = bernoulli(120);
+		runMultiThreaded(() -> {
+			assertEquals(expected, bernoulli(120));
+			assertEquals(-1, bernoulli(240).signum());
+		});
+	}
+
 	@Test(expected = ArithmeticException.class)
 	public void testBernoulliNegative() {
 		bernoulli(-1);
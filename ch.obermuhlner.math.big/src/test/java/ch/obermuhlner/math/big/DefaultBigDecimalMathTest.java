@@ -8,6 +8,7 @@ import java.math.RoundingMode;
 import java.util.Random;
 
 import static ch.obermuhlner.util.ThreadUtil.runMultiThreaded;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class DefaultBigDecimalMathTest {
@@ -113,6 +114,13 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.gamma(BigDecimal.valueOf(1.1)));
     }
 
+    @Test
+    public void testLogGamma() {
+        assertEquals(
+                BigDecimalMath.logGamma(BigDecimal.valueOf(1.1), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.logGamma(BigDecimal.valueOf(1.1)));
+    }
+
     @Test
     public void testPowInt() {
         assertEquals(
@@ -141,6 +149,13 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.root(BigDecimal.valueOf(1.1), BigDecimal.valueOf(3.3)));
     }
 
+    @Test
+    public void testRootInt() {
+        assertEquals(
+                BigDecimalMath.root(BigDecimal.valueOf(1.1), 3, DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.root(BigDecimal.valueOf(1.1), 3));
+    }
+
     @Test
     public void testLog() {
         assertEquals(
@@ -190,6 +205,13 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.cos(BigDecimal.valueOf(3)));
     }
 
+    @Test
+    public void testSinCos() {
+        assertArrayEquals(
+                BigDecimalMath.sinCos(BigDecimal.valueOf(3), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.sinCos(BigDecimal.valueOf(3)));
+    }
+
     @Test
     public void testAcos() {
         assertEquals(
@@ -253,6 +275,13 @@ public class DefaultBigDecimalMathTest {
                 DefaultBigDecimalMath.cosh(BigDecimal.valueOf(3)));
     }
 
+    @Test
+    public void testSinhCosh() {
+        assertArrayEquals(
+                BigDecimalMath.sinhCosh(BigDecimal.valueOf(3), DefaultBigDecimalMath.getDefaultMathContext()),
+                DefaultBigDecimalMath.sinhCosh(BigDecimal.valueOf(3)));
+    }
+
     @Test
     public void testAcosh() {
         assertEquals(